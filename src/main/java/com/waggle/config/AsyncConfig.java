@@ -0,0 +1,85 @@
+package com.waggle.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 커밋 후 부가 작업(검색/패싯 색인, 인기 순위, 프로필 이미지 처리 등)을 요청 스레드 밖에서 처리하는 실행기.
+ * 프로젝트 이벤트 실행기는 큐가 가득 차면 작업을 버리지 않고 호출한 스레드에서 실행한다.
+ * 프로필 이미지 실행기는 요청 스레드에서 이미지를 디코딩하지 않도록 거절한다. 거절은 제출하는 쪽(ProfileImageProcessor)에서 처리한다.
+ * 두 경우 모두 지표로 남긴다.
+ */
+@Slf4j
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    public static final String PROJECT_EVENT_EXECUTOR = "projectEventExecutor";
+    public static final String PROFILE_IMAGE_EXECUTOR = "profileImageExecutor";
+
+    @Bean(name = PROJECT_EVENT_EXECUTOR)
+    public ThreadPoolTaskExecutor projectEventExecutor(MeterRegistry meterRegistry,
+                                                       @Value("${project.event.core-pool-size}") int corePoolSize,
+                                                       @Value("${project.event.max-pool-size}") int maxPoolSize,
+                                                       @Value("${project.event.queue-capacity}") int queueCapacity) {
+        return boundedExecutor("project-event-", "project.event", meterRegistry, corePoolSize, maxPoolSize, queueCapacity,
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    // 이미지 디코딩/축소는 CPU 와 메모리를 많이 쓰므로 작은 풀과 짧은 큐로 따로 둔다.
+    @Bean(name = PROFILE_IMAGE_EXECUTOR)
+    public ThreadPoolTaskExecutor profileImageExecutor(MeterRegistry meterRegistry,
+                                                       @Value("${user.profile-image.core-pool-size}") int corePoolSize,
+                                                       @Value("${user.profile-image.max-pool-size}") int maxPoolSize,
+                                                       @Value("${user.profile-image.queue-capacity}") int queueCapacity) {
+        return boundedExecutor("profile-image-", "profile.image", meterRegistry, corePoolSize, maxPoolSize, queueCapacity,
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // executor.queued / executor.active / executor.completed 등 (name=project.event)
+    @Bean
+    public MeterBinder projectEventExecutorMetrics(@Qualifier(PROJECT_EVENT_EXECUTOR) ThreadPoolTaskExecutor executor) {
+        return registry -> new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), "project.event", Tags.empty())
+                .bindTo(registry);
+    }
+
+    @Bean
+    public MeterBinder profileImageExecutorMetrics(@Qualifier(PROFILE_IMAGE_EXECUTOR) ThreadPoolTaskExecutor executor) {
+        return registry -> new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), "profile.image", Tags.empty())
+                .bindTo(registry);
+    }
+
+    private ThreadPoolTaskExecutor boundedExecutor(String threadNamePrefix, String metricName, MeterRegistry meterRegistry,
+                                                   int corePoolSize, int maxPoolSize, int queueCapacity,
+                                                   RejectedExecutionHandler rejectionPolicy) {
+        Counter rejectedCounter = meterRegistry.counter(metricName + ".rejected");
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            rejectedCounter.increment();
+            log.warn("{} 실행기 포화 (queue: {})", metricName, pool.getQueue().size());
+            rejectionPolicy.rejectedExecution(task, pool);
+        });
+        // 종료 시 남은 작업을 마저 처리한다.
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+}
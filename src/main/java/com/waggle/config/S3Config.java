@@ -3,11 +3,13 @@ package com.waggle.config;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
 
 @Configuration
 public class S3Config {
@@ -21,14 +23,24 @@ public class S3Config {
     @Value("${AWS_REGION}")
     private String region;
 
+    // MinIO 등 S3 호환 저장소로 붙을 때만 지정한다. 비어 있으면 AWS 기본 엔드포인트를 쓴다.
+    @Value("${cloud.aws.s3.endpoint:}")
+    private String endpoint;
+
     @Bean
     public AmazonS3 amazonS3Client() {
         AWSCredentials credentials = new BasicAWSCredentials(accessKey, secretKey);
 
-        return AmazonS3ClientBuilder
+        AmazonS3ClientBuilder builder = AmazonS3ClientBuilder
                 .standard()
-                .withCredentials(new AWSStaticCredentialsProvider(credentials))
-                .withRegion(region)
-                .build();
+                .withCredentials(new AWSStaticCredentialsProvider(credentials));
+        if (StringUtils.hasText(endpoint)) {
+            // 로컬 저장소는 버킷 이름 서브도메인을 쓸 수 없으므로 path-style 로 접근한다.
+            return builder
+                    .withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endpoint, region))
+                    .withPathStyleAccessEnabled(true)
+                    .build();
+        }
+        return builder.withRegion(region).build();
     }
 }
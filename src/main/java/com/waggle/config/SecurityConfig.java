@@ -8,11 +8,14 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.annotation.web.configurers.HttpBasicConfigurer;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 
 import com.waggle.global.secure.oauth2.handler.OAuth2LoginFailureHandler;
 import com.waggle.global.secure.oauth2.handler.OAuth2LoginSuccessHandler;
+import com.waggle.global.secure.jwt.JwtAuthenticationFilter;
+import com.waggle.global.secure.jwt.JwtUtil;
 
 import java.util.Collections;
 
@@ -23,6 +26,7 @@ public class SecurityConfig {
 
     private final OAuth2LoginSuccessHandler oAuth2LoginSuccessHandler;
     private final OAuth2LoginFailureHandler oAuth2LoginFailureHandler;
+    private final JwtUtil jwtUtil;
 
     CorsConfigurationSource corsConfigurationSource() {
         return request -> {
@@ -41,6 +45,8 @@ public class SecurityConfig {
                 httpBasic(HttpBasicConfigurer::disable)
                 .cors(corsConfigurer -> corsConfigurer.configurationSource(corsConfigurationSource())) // CORS 설정 추가
                 .csrf(AbstractHttpConfigurer::disable)
+                // 액세스 토큰은 요청당 한 번만 검증하고, 서비스에서는 SecurityContext 의 JwtPrincipal 을 쓴다.
+                .addFilterBefore(new JwtAuthenticationFilter(jwtUtil), UsernamePasswordAuthenticationFilter.class)
                 .authorizeHttpRequests(authorize ->
                         authorize
                                 .requestMatchers("/**").permitAll()
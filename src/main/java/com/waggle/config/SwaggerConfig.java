@@ -105,6 +105,7 @@ public class SwaggerConfig {
                     new io.swagger.v3.oas.models.tags.Tag().name("인증"),
                     new io.swagger.v3.oas.models.tags.Tag().name("사용자"),
                     new io.swagger.v3.oas.models.tags.Tag().name("프로젝트 모집 게시글"),
+                    new io.swagger.v3.oas.models.tags.Tag().name("프로젝트 검색"),
                     new io.swagger.v3.oas.models.tags.Tag().name("프로젝트 지원"),
                     new io.swagger.v3.oas.models.tags.Tag().name("프로젝트 멤버"),
                     new io.swagger.v3.oas.models.tags.Tag().name("프로젝트 북마크"),
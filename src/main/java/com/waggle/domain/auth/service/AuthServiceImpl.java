@@ -3,6 +3,7 @@ package com.waggle.domain.auth.service;
 import com.waggle.domain.auth.dto.*;
 import com.waggle.global.exception.JwtTokenException;
 import com.waggle.global.response.ApiStatus;
+import com.waggle.global.secure.jwt.JwtPrincipal;
 import com.waggle.global.secure.jwt.JwtUtil;
 
 import lombok.RequiredArgsConstructor;
@@ -12,7 +13,6 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
-import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
@@ -25,7 +25,8 @@ public class AuthServiceImpl implements AuthService {
     private final RedisTemplate<String, String> redisTemplate;
     @Override
     public AccessTokenVo reissueAccessToken(String refreshToken) {
-        String userId = jwtUtil.getUserIdFromToken(refreshToken);
+        JwtPrincipal principal = jwtUtil.getPrincipalFromToken(refreshToken);
+        String userId = principal.userId().toString();
         String storedRefreshToken = redisTemplate.opsForValue().get("REFRESH_TOKEN:" + userId);
         String accessToken = null;
 
@@ -34,7 +35,7 @@ public class AuthServiceImpl implements AuthService {
             throw new JwtTokenException(ApiStatus._INVALID_REFRESH_TOKEN);
         } else {
             // 액세스 토큰 재발급
-            accessToken = jwtUtil.generateAccessToken(UUID.fromString(userId), ACCESS_TOKEN_EXPIRATION_TIME);
+            accessToken = jwtUtil.generateAccessToken(principal.userId(), principal.provider(), ACCESS_TOKEN_EXPIRATION_TIME);
         }
 
         return AccessTokenVo.builder()
@@ -0,0 +1,58 @@
+package com.waggle.domain.project.batch;
+
+import com.waggle.domain.project.repository.ProjectRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * projects.bookmark_cnt 를 project_bookmark 의 실제 건수로 맞춘다.
+ * 토글은 원자적으로 증감하지만, 직접 수정이나 장애로 생긴 어긋남을 주기적으로 바로잡는다.
+ * 잠금 시간을 짧게 하려고 id 키셋 단위로 나눠 각각 별도 트랜잭션에서 처리한다.
+ */
+@Slf4j
+@Component
+public class ProjectBookmarkReconciler {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final ProjectRepository projectRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter driftCounter;
+
+    public ProjectBookmarkReconciler(ProjectRepository projectRepository,
+                                     TransactionTemplate transactionTemplate,
+                                     MeterRegistry meterRegistry) {
+        this.projectRepository = projectRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.driftCounter = meterRegistry.counter("project.bookmark.reconcile.drift");
+    }
+
+    @Scheduled(cron = "${project.bookmark.reconcile-cron}")
+    public void reconcile() {
+        int repaired = 0;
+        UUID lastId = new UUID(0L, 0L);
+        List<UUID> ids;
+        do {
+            ids = projectRepository.findIdsAfter(lastId, PageRequest.ofSize(BATCH_SIZE));
+            if (ids.isEmpty()) {
+                break;
+            }
+            List<UUID> batch = ids;
+            repaired += transactionTemplate.execute(status -> projectRepository.reconcileBookmarkCnt(batch));
+            lastId = ids.get(ids.size() - 1);
+        } while (ids.size() == BATCH_SIZE);
+
+        driftCounter.increment(repaired);
+        if (repaired > 0) {
+            log.warn("북마크 수 불일치 보정: {}건", repaired);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.waggle.domain.project.batch;
+
+import com.waggle.domain.project.repository.ProjectRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * projects.leader_id 가 추가되기 전에 만들어진 프로젝트의 리더를 project_member 로부터 채운다.
+ * 스키마는 ddl-auto 로 관리하므로 별도 마이그레이션 대신 기동 시 실행하며, 이미 채워진 행은 건드리지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectLeaderBackfill {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final ProjectRepository projectRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            int filled = 0;
+            UUID lastId = new UUID(0L, 0L);
+            List<UUID> ids;
+            do {
+                ids = projectRepository.findIdsAfter(lastId, PageRequest.ofSize(BATCH_SIZE));
+                if (ids.isEmpty()) {
+                    break;
+                }
+                List<UUID> batch = ids;
+                filled += transactionTemplate.execute(status -> projectRepository.backfillLeaderId(batch));
+                lastId = ids.get(ids.size() - 1);
+            } while (ids.size() == BATCH_SIZE);
+
+            if (filled > 0) {
+                log.info("프로젝트 리더 id 채움: {}건", filled);
+            }
+        } catch (RuntimeException e) {
+            log.error("프로젝트 리더 id 채우기 실패", e);
+        }
+    }
+}
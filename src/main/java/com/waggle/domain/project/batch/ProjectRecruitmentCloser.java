@@ -0,0 +1,91 @@
+package com.waggle.domain.project.batch;
+
+import com.waggle.domain.project.event.ProjectChangedEvent;
+import com.waggle.domain.project.repository.ProjectRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 마감일이 지난 모집 중 프로젝트를 CLOSED 로 바꾼다.
+ * 대상 id 를 (status, recruitment_date) 인덱스로 batchSize 개씩 읽고, 배치마다 별도 트랜잭션의 UPDATE 한 번으로 닫아
+ * 한 번에 잡는 행 잠금을 작게 유지한다. 여러 인스턴스에서 동시에 돌아도 status 조건 때문에 같은 행을 두 번 닫지 않는다.
+ */
+@Slf4j
+@Component
+public class ProjectRecruitmentCloser {
+
+    private final ProjectRepository projectRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+
+    private final Timer runTimer;
+    private final DistributionSummary rowsPerRun;
+    private final Counter closedCounter;
+
+    public ProjectRecruitmentCloser(ProjectRepository projectRepository,
+                                    TransactionTemplate transactionTemplate,
+                                    ApplicationEventPublisher eventPublisher,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${project.recruitment.close-batch-size}") int batchSize) {
+        this.projectRepository = projectRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.runTimer = meterRegistry.timer("project.recruitment.close");
+        this.rowsPerRun = DistributionSummary.builder("project.recruitment.close.rows")
+                .description("마감 처리 1회에 CLOSED 로 바꾼 행 수")
+                .register(meterRegistry);
+        this.closedCounter = meterRegistry.counter("project.recruitment.closed");
+    }
+
+    @Scheduled(fixedDelayString = "${project.recruitment.close-interval}")
+    public void closeExpired() {
+        try {
+            int closed = runTimer.record(this::closeBatches);
+            rowsPerRun.record(closed);
+            closedCounter.increment(closed);
+            if (closed > 0) {
+                log.info("모집 마감 처리: {}건", closed);
+            }
+        } catch (RuntimeException e) {
+            log.warn("모집 마감 처리 실패", e);
+        }
+    }
+
+    private int closeBatches() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        int closed;
+        List<UUID> ids;
+        do {
+            ids = projectRepository.findExpiredRecruitingIds(now, PageRequest.ofSize(batchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            List<UUID> batch = ids;
+            closed = transactionTemplate.execute(status -> {
+                int updated = projectRepository.closeRecruitment(batch, now);
+                // 상세 캐시 등이 커밋 후 상태를 다시 읽도록 알린다.
+                batch.forEach(id -> eventPublisher.publishEvent(new ProjectChangedEvent(id)));
+                return updated;
+            });
+            total += closed;
+            // 다른 인스턴스가 먼저 닫은 경우 같은 id 를 다시 읽지 않도록 진척이 없으면 멈춘다.
+        } while (ids.size() == batchSize && closed > 0);
+        return total;
+    }
+}
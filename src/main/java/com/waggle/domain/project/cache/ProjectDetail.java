@@ -0,0 +1,9 @@
+package com.waggle.domain.project.cache;
+
+import com.waggle.domain.project.dto.ProjectResponseDto;
+
+/**
+ * 프로젝트 상세 응답과 그 ETag. 직렬화에 실패한 경우 eTag 는 null 이다.
+ */
+public record ProjectDetail(ProjectResponseDto project, String eTag) {
+}
@@ -0,0 +1,189 @@
+package com.waggle.domain.project.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.waggle.domain.project.dto.ProjectResponseDto;
+import com.waggle.domain.project.event.ProjectEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 프로젝트 상세 응답(ProjectResponseDto)의 직렬화 결과를 Redis 에 보관한다.
+ * Redis 장애 시에는 캐시 미스로 취급해 DB 조회로 넘어간다.
+ * <p>
+ * 값은 "ETag(32자) + JSON" 형태로 저장해, 조건부 요청은 앞 32자만 읽어(GETRANGE) 본문 없이 비교할 수 있다.
+ * 상세 응답에 영향을 주는 변경은 모두 ProjectEvent 로 캐시를 지우므로, 캐시에 있는 동안 ETag 는 본문과 항상 일치한다.
+ * <p>
+ * 삭제할 때마다 프로젝트별 세대(PROJECT_DETAIL_GEN:{id})를 올린다. 캐시를 채우는 쪽은 DB 를 읽기 전에 세대를 받아 두고,
+ * 그 사이 세대가 바뀌었으면(수정이 커밋되어 삭제되었으면) 읽은 값을 저장하지 않는다.
+ */
+@Slf4j
+@Component
+public class ProjectDetailCache {
+
+    private static final String KEY_PREFIX = "PROJECT_DETAIL:";
+    private static final String GENERATION_KEY_PREFIX = "PROJECT_DETAIL_GEN:";
+    private static final String NO_GENERATION = "0";
+    // 세대 키는 진행 중인 채우기보다만 오래 살면 된다.
+    private static final Duration GENERATION_TTL = Duration.ofDays(1);
+    private static final int ETAG_LENGTH = 32;
+
+    private static final RedisScript<Long> PUT_SCRIPT = new DefaultRedisScript<>("""
+            if (redis.call('GET', KEYS[2]) or ARGV[3]) ~= ARGV[1] then
+                return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[4])
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1])
+            redis.call('INCR', KEYS[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[1])
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictCounter;
+    private final Counter errorCounter;
+    private final Counter staleFillCounter;
+
+    public ProjectDetailCache(RedisTemplate<String, String> redisTemplate,
+                              ObjectMapper objectMapper,
+                              MeterRegistry meterRegistry,
+                              @Value("${project.cache.detail-ttl}") Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+        this.hitCounter = meterRegistry.counter("project.detail.cache", "result", "hit");
+        this.missCounter = meterRegistry.counter("project.detail.cache", "result", "miss");
+        this.evictCounter = meterRegistry.counter("project.detail.cache", "result", "evict");
+        this.errorCounter = meterRegistry.counter("project.detail.cache", "result", "error");
+        this.staleFillCounter = meterRegistry.counter("project.detail.cache", "result", "stale_fill");
+    }
+
+    public Optional<ProjectDetail> get(UUID projectId) {
+        try {
+            String cached = redisTemplate.opsForValue().get(KEY_PREFIX + projectId);
+            if (cached == null) {
+                missCounter.increment();
+                return Optional.empty();
+            }
+            hitCounter.increment();
+            // ETag 없이 저장된 이전 형식의 값은 본문으로 다시 계산한다.
+            String json = hasETag(cached) ? cached.substring(ETAG_LENGTH) : cached;
+            String eTag = hasETag(cached) ? cached.substring(0, ETAG_LENGTH) : eTagOf(json);
+            return Optional.of(new ProjectDetail(objectMapper.readValue(json, ProjectResponseDto.class), eTag));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("프로젝트 상세 캐시 조회 실패: {}", projectId, e);
+            errorCounter.increment();
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 캐시된 상세 응답의 ETag 만 읽는다. 캐시에 없으면 비어 있다.
+     */
+    public Optional<String> getETag(UUID projectId) {
+        try {
+            String prefix = redisTemplate.opsForValue().get(KEY_PREFIX + projectId, 0, ETAG_LENGTH - 1);
+            return prefix != null && hasETag(prefix) ? Optional.of(prefix) : Optional.empty();
+        } catch (RuntimeException e) {
+            log.warn("프로젝트 상세 캐시 ETag 조회 실패: {}", projectId, e);
+            errorCounter.increment();
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * DB 에서 상세를 읽기 전에 받아 두는 현재 세대. Redis 장애 시에는 null 이며 이때는 저장하지 않는다.
+     */
+    public String fillToken(UUID projectId) {
+        try {
+            String generation = redisTemplate.opsForValue().get(GENERATION_KEY_PREFIX + projectId);
+            return generation == null ? NO_GENERATION : generation;
+        } catch (RuntimeException e) {
+            log.warn("프로젝트 상세 캐시 세대 조회 실패: {}", projectId, e);
+            errorCounter.increment();
+            return null;
+        }
+    }
+
+    /**
+     * 상세 응답을 fillToken 이후 삭제가 없었을 때만 저장하고, ETag 를 붙여 반환한다.
+     * 저장하지 못해도 ETag 는 계산해 돌려준다.
+     */
+    public ProjectDetail put(ProjectResponseDto project, String fillToken) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(project);
+        } catch (JsonProcessingException e) {
+            log.warn("프로젝트 상세 직렬화 실패: {}", project.getId(), e);
+            errorCounter.increment();
+            return new ProjectDetail(project, null);
+        }
+        String eTag = eTagOf(json);
+        if (fillToken == null) {
+            return new ProjectDetail(project, eTag);
+        }
+        try {
+            Long stored = redisTemplate.execute(PUT_SCRIPT,
+                    List.of(KEY_PREFIX + project.getId(), GENERATION_KEY_PREFIX + project.getId()),
+                    fillToken, eTag + json, NO_GENERATION, String.valueOf(ttl.toMillis()));
+            if (stored == null || stored == 0) {
+                staleFillCounter.increment();
+            }
+        } catch (RuntimeException e) {
+            log.warn("프로젝트 상세 캐시 저장 실패: {}", project.getId(), e);
+            errorCounter.increment();
+        }
+        return new ProjectDetail(project, eTag);
+    }
+
+    public void evict(UUID projectId) {
+        try {
+            redisTemplate.execute(EVICT_SCRIPT,
+                    List.of(KEY_PREFIX + projectId, GENERATION_KEY_PREFIX + projectId),
+                    String.valueOf(GENERATION_TTL.toMillis()));
+            evictCounter.increment();
+        } catch (RuntimeException e) {
+            log.warn("프로젝트 상세 캐시 삭제 실패: {}", projectId, e);
+            errorCounter.increment();
+        }
+    }
+
+    private static String eTagOf(String json) {
+        return DigestUtils.md5DigestAsHex(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // JSON 은 '{' 로 시작하므로 앞이 '{' 가 아니면 ETag 가 붙은 값이다.
+    private static boolean hasETag(String cached) {
+        return cached.length() >= ETAG_LENGTH && cached.charAt(0) != '{';
+    }
+
+    // 커밋 이후에 지워야 다른 요청이 커밋 전 값을 다시 캐시하지 않는다.
+    // 수정한 사용자가 바로 다시 조회할 수 있도록 스크립트 한 번인 삭제만은 비동기로 넘기지 않는다.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProjectChanged(ProjectEvent event) {
+        evict(event.projectId());
+    }
+}
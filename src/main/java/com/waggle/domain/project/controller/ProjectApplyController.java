@@ -1,5 +1,7 @@
 package com.waggle.domain.project.controller;
 
+import com.waggle.domain.project.dto.ProjectApplicantDecisionDto;
+import com.waggle.domain.project.dto.ProjectCandidateDto;
 import com.waggle.domain.project.dto.ProjectResponseDto;
 import com.waggle.domain.project.service.ProjectService;
 import com.waggle.domain.user.dto.UserResponseDto;
@@ -7,6 +9,7 @@ import com.waggle.global.response.ApiStatus;
 import com.waggle.global.response.BaseResponse;
 import com.waggle.global.response.ErrorResponse;
 import com.waggle.global.response.SuccessResponse;
+import com.waggle.global.response.swagger.ProjectCandidatesSuccessResponse;
 import com.waggle.global.response.swagger.ProjectSuccessResponse;
 import com.waggle.global.response.swagger.ProjectsSuccessResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -21,6 +24,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -60,6 +64,46 @@ public class ProjectApplyController {
                 .collect(Collectors.toCollection(LinkedHashSet::new)));
     }
 
+    @GetMapping("/{projectId}/ranked")
+    @Operation(
+            summary = "프로젝트 지원자 적합도순 조회",
+            description = "프로젝트 모집 직무/사용 스킬/진행 방식과 지원자의 직무 경력/보유 스킬/선호 진행 방식/선호 요일을 비교해 적합도가 높은 순으로 조회한다. 리더만 조회할 수 있다.",
+            security = @SecurityRequirement(name = "JWT")
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "프로젝트 지원자 적합도순 조회 성공",
+                    content = @Content(
+                            schema = @Schema(implementation = ProjectCandidatesSuccessResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "인증되지 않은 사용자입니다.",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "조회 권한이 없습니다.",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "프로젝트 모집글이 존재하지 않습니다.",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    public ResponseEntity<BaseResponse<List<ProjectCandidateDto>>> fetchRankedAppliedUsers(@PathVariable String projectId) {
+        return SuccessResponse.of(ApiStatus._OK, projectService.getRankedAppliedUsers(UUID.fromString(projectId)));
+    }
+
     @PutMapping("/{projectId}/approve/{userId}")
     @Operation(
             summary = "프로젝트 모집글 참여자 승인",
@@ -144,6 +188,55 @@ public class ProjectApplyController {
                 .collect(Collectors.toCollection(LinkedHashSet::new)));
     }
 
+    @PutMapping("/{projectId}/decisions")
+    @Operation(
+            summary = "프로젝트 지원자 일괄 승인/거절",
+            description = "프로젝트에 지원한 사용자들을 한 번에 승인/거절하고, 처리 후 참여자 목록을 반환한다. 승인 대상 중 지원하지 않은 사용자가 있으면 전체를 처리하지 않는다.",
+            security = @SecurityRequirement(name = "JWT")
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "프로젝트 지원자 일괄 승인/거절 성공",
+                    content = @Content(
+                            schema = @Schema(implementation = ProjectSuccessResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 요청입니다. (빈 목록, 최대 100명 초과, 승인/거절 중복, 이미 참여한 사용자)",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "인증되지 않은 사용자입니다.",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "수정 권한이 없습니다.",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "프로젝트 모집글 혹은 지원 내역이 존재하지 않습니다.",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    public ResponseEntity<BaseResponse<Set<UserResponseDto>>> decideUsers(@PathVariable String projectId, @RequestBody ProjectApplicantDecisionDto decisionDto) {
+        return SuccessResponse.of(ApiStatus._OK, projectService.decideAppliedUsers(UUID.fromString(projectId), decisionDto).stream()
+                .map(UserResponseDto::from)
+                .collect(Collectors.toCollection(LinkedHashSet::new)));
+    }
+
     @GetMapping("/who/me")
     @Operation(
             summary = "내가 지원한 프로젝트 조회",
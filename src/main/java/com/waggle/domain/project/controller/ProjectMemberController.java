@@ -1,5 +1,6 @@
 package com.waggle.domain.project.controller;
 
+import com.waggle.domain.project.dto.ProjectCandidateDto;
 import com.waggle.domain.project.dto.ProjectResponseDto;
 import com.waggle.domain.project.service.ProjectService;
 import com.waggle.domain.user.dto.UserResponseDto;
@@ -7,6 +8,7 @@ import com.waggle.global.response.ApiStatus;
 import com.waggle.global.response.BaseResponse;
 import com.waggle.global.response.ErrorResponse;
 import com.waggle.global.response.SuccessResponse;
+import com.waggle.global.response.swagger.ProjectCandidatesSuccessResponse;
 import com.waggle.global.response.swagger.ProjectSuccessResponse;
 import com.waggle.global.response.swagger.ProjectsSuccessResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -21,6 +23,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -60,6 +63,49 @@ public class ProjectMemberController {
                 .collect(Collectors.toCollection(LinkedHashSet::new)));
     }
 
+    @GetMapping("/{projectId}/candidates")
+    @Operation(
+            summary = "프로젝트 추천 인재 조회",
+            description = "프로젝트 모집 직무/사용 스킬이 겹치는 사용자 중 적합도가 높은 순으로 조회한다. 이미 참여했거나 지원한 사용자는 제외한다. 리더만 조회할 수 있다.",
+            security = @SecurityRequirement(name = "JWT")
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "프로젝트 추천 인재 조회 성공",
+                    content = @Content(
+                            schema = @Schema(implementation = ProjectCandidatesSuccessResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "인증되지 않은 사용자입니다.",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "조회 권한이 없습니다.",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "프로젝트 모집글이 존재하지 않습니다.",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    public ResponseEntity<BaseResponse<List<ProjectCandidateDto>>> fetchCandidates(
+            @PathVariable String projectId,
+            @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        return SuccessResponse.of(ApiStatus._OK, projectService.getSuggestedCandidates(UUID.fromString(projectId), size));
+    }
+
     @PutMapping("/{projectId}/reject/{userId}")
     @Operation(
             summary = "프로젝트 모집글 참여자 강제 퇴장",
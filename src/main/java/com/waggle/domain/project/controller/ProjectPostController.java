@@ -1,11 +1,22 @@
 package com.waggle.domain.project.controller;
 
+import com.waggle.domain.project.cache.ProjectDetail;
+import com.waggle.domain.project.dto.ProjectFacetResponseDto;
+import com.waggle.domain.project.dto.ProjectFeedCondition;
+import com.waggle.domain.project.dto.ProjectFeedCursor;
+import com.waggle.domain.project.dto.ProjectFeedResponseDto;
 import com.waggle.domain.project.dto.ProjectInputDto;
+import com.waggle.domain.project.dto.ProjectRecommendationResponseDto;
 import com.waggle.domain.project.dto.ProjectResponseDto;
 import com.waggle.domain.project.entity.Project;
+import com.waggle.domain.project.facet.ProjectFacet;
+import com.waggle.domain.project.facet.ProjectFacetFilter;
 import com.waggle.domain.project.service.ProjectService;
 import com.waggle.domain.user.dto.UserResponseDto;
 import com.waggle.global.response.*;
+import com.waggle.global.response.swagger.ProjectFacetSuccessResponse;
+import com.waggle.global.response.swagger.ProjectFeedSuccessResponse;
+import com.waggle.global.response.swagger.ProjectRecommendationSuccessResponse;
 import com.waggle.global.response.swagger.ProjectSuccessResponse;
 import com.waggle.global.response.swagger.ProjectsSuccessResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -16,10 +27,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.LinkedHashSet;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -32,8 +46,167 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ProjectPostController {
 
+    // 상세는 자주 바뀌지 않지만 바뀌면 바로 보여야 하므로, 매번 ETag 로 재확인하게 한다.
+    private static final CacheControl DETAIL_CACHE_CONTROL = CacheControl.noCache();
+
     private final ProjectService projectService;
 
+    @GetMapping("")
+    @Operation(
+            summary = "프로젝트 모집글 목록 조회",
+            description = """
+            프로젝트 모집글을 최신순으로 조회한다. 모든 필터는 선택값이다.
+            
+            다음 페이지는 응답의 next_cursor를 cursor로 넘겨 조회한다. (has_next가 false면 마지막 페이지)
+            """
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "프로젝트 모집글 목록 조회 성공",
+                    content = @Content(
+                            schema = @Schema(implementation = ProjectFeedSuccessResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "유효하지 않은 커서입니다.",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    public ResponseEntity<BaseResponse<ProjectFeedResponseDto>> fetchProjects(
+            @RequestParam(value = "industry_id", required = false) Long industryId,
+            @RequestParam(value = "way_of_working_id", required = false) Long wayOfWorkingId,
+            @RequestParam(value = "duration_of_working_id", required = false) Long durationOfWorkingId,
+            @RequestParam(value = "skill_ids", required = false) Set<Long> skillIds,
+            @RequestParam(value = "job_ids", required = false) Set<Long> jobIds,
+            @RequestParam(value = "recruiting", defaultValue = "false") boolean recruiting,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        ProjectFeedCondition condition = ProjectFeedCondition.builder()
+                .industryId(industryId)
+                .wayOfWorkingId(wayOfWorkingId)
+                .durationOfWorkingId(durationOfWorkingId)
+                .skillIds(skillIds)
+                .jobIds(jobIds)
+                .recruiting(recruiting)
+                .cursor(ProjectFeedCursor.decode(cursor))
+                .size(size)
+                .build();
+        return SuccessResponse.of(ApiStatus._OK, projectService.getProjectFeed(condition));
+    }
+
+    @GetMapping("/trending")
+    @Operation(
+            summary = "인기 프로젝트 모집글 조회",
+            description = """
+            최근 활동(조회, 북마크, 지원)이 많은 모집 중인 프로젝트를 인기순으로 조회한다.
+            
+            오래된 활동일수록 점수가 줄어든다. (반감기 기본 24시간)
+            """
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "인기 프로젝트 모집글 조회 성공",
+                    content = @Content(
+                            schema = @Schema(implementation = ProjectsSuccessResponse.class)
+                    )
+            )
+    })
+    public ResponseEntity<BaseResponse<Set<ProjectResponseDto>>> fetchTrendingProjects(
+            @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        Set<ProjectResponseDto> projectResponseDtos = projectService.getTrendingProjects(size).stream()
+                .map(ProjectResponseDto::from)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        return SuccessResponse.of(ApiStatus._OK, projectResponseDtos);
+    }
+
+    @GetMapping("/recommended")
+    @Operation(
+            summary = "추천 프로젝트 모집글 조회",
+            description = """
+            현재 사용자의 직무, 스킬, 관심 산업, 선호 진행 방식과 잘 맞는 모집 중인 프로젝트를 추천순으로 조회한다.
+            
+            추천 목록은 미리 계산해 두며 프로필 수정, 프로젝트 생성/수정 시 갱신된다. 사용자당 최대 100개까지 조회할 수 있다.
+            
+            다음 페이지는 응답의 next_cursor 를 cursor 로 넘겨 조회한다.
+            """,
+            security = @SecurityRequirement(name = "JWT")
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "추천 프로젝트 모집글 조회 성공",
+                    content = @Content(
+                            schema = @Schema(implementation = ProjectRecommendationSuccessResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "유효하지 않은 커서",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    public ResponseEntity<BaseResponse<ProjectRecommendationResponseDto>> fetchRecommendedProjects(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        return SuccessResponse.of(ApiStatus._OK, projectService.getRecommendedProjects(cursor, size));
+    }
+
+    @GetMapping("/facets")
+    @Operation(
+            summary = "프로젝트 모집글 패싯 조회",
+            description = """
+            모집 중인 프로젝트 중 필터에 해당하는 수와, 필터 항목별 프로젝트 수를 조회한다. 모든 필터는 선택값이다.
+            
+            스킬/모집 직무는 기본적으로 하나라도 포함(OR)이며, *_match_all이 true면 모두 포함(AND)으로 찾는다.
+            
+            OR로 고른 항목의 건수는 해당 항목 조건을 뺀 나머지 필터 기준이다. (다른 값을 추가로 골랐을 때의 건수)
+            """
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "프로젝트 모집글 패싯 조회 성공",
+                    content = @Content(
+                            schema = @Schema(implementation = ProjectFacetSuccessResponse.class)
+                    )
+            )
+    })
+    public ResponseEntity<BaseResponse<ProjectFacetResponseDto>> fetchProjectFacets(
+            @RequestParam(value = "industry_id", required = false) Long industryId,
+            @RequestParam(value = "way_of_working_id", required = false) Long wayOfWorkingId,
+            @RequestParam(value = "duration_of_working_id", required = false) Long durationOfWorkingId,
+            @RequestParam(value = "skill_ids", required = false) Set<Long> skillIds,
+            @RequestParam(value = "skill_match_all", defaultValue = "false") boolean skillMatchAll,
+            @RequestParam(value = "job_ids", required = false) Set<Long> jobIds,
+            @RequestParam(value = "job_match_all", defaultValue = "false") boolean jobMatchAll
+    ) {
+        ProjectFacetFilter.Builder filter = ProjectFacetFilter.builder()
+                .eq(ProjectFacet.INDUSTRY, industryId)
+                .eq(ProjectFacet.WAYS_OF_WORKING, wayOfWorkingId)
+                .eq(ProjectFacet.DURATION_OF_WORKING, durationOfWorkingId);
+        if (skillMatchAll) {
+            filter.allOf(ProjectFacet.SKILL, skillIds);
+        } else {
+            filter.anyOf(ProjectFacet.SKILL, skillIds);
+        }
+        if (jobMatchAll) {
+            filter.allOf(ProjectFacet.JOB, jobIds);
+        } else {
+            filter.anyOf(ProjectFacet.JOB, jobIds);
+        }
+        return SuccessResponse.of(ApiStatus._OK, projectService.getProjectFacets(filter.build()));
+    }
+
     @GetMapping("/{projectId}")
     @Operation(
             summary = "프로젝트 모집글 조회",
@@ -48,6 +221,10 @@ public class ProjectPostController {
                             schema = @Schema(implementation = ProjectSuccessResponse.class)
                     )
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "If-None-Match 의 ETag 와 같아 본문 없이 응답"
+            ),
             @ApiResponse(
                     responseCode = "404",
                     description = "프로젝트 모집글이 존재하지 않습니다.",
@@ -56,9 +233,24 @@ public class ProjectPostController {
                     )
             )
     })
-    public ResponseEntity<BaseResponse<ProjectResponseDto>> fetchProject(@PathVariable String projectId) {
-        Project fetchProject = projectService.getProjectByProjectId(UUID.fromString(projectId));
-        return SuccessResponse.of(ApiStatus._OK, ProjectResponseDto.from(fetchProject));
+    public ResponseEntity<BaseResponse<ProjectResponseDto>> fetchProject(
+            @PathVariable String projectId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        UUID id = UUID.fromString(projectId);
+        // 조건부 요청이고 상세가 캐시에 있으면 본문을 읽지 않고 ETag 만 비교한다.
+        if (ifNoneMatch != null) {
+            Optional<String> cachedETag = projectService.getProjectDetailETag(id);
+            if (cachedETag.isPresent() && ConditionalResponse.isNotModified(ifNoneMatch, cachedETag.get())) {
+                projectService.countProjectView(id);
+                return ConditionalResponse.notModified(cachedETag.get(), DETAIL_CACHE_CONTROL);
+            }
+        }
+        ProjectDetail detail = projectService.getProjectDetail(id);
+        if (ConditionalResponse.isNotModified(ifNoneMatch, detail.eTag())) {
+            return ConditionalResponse.notModified(detail.eTag(), DETAIL_CACHE_CONTROL);
+        }
+        return ConditionalResponse.of(ApiStatus._OK, detail.project(), detail.eTag(), DETAIL_CACHE_CONTROL);
     }
 
     @PostMapping("") //경로에 있는 post는 post 방식이 아니라 게시글을 영어로 한거임
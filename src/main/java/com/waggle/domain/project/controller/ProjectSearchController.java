@@ -0,0 +1,65 @@
+package com.waggle.domain.project.controller;
+
+import com.waggle.domain.project.dto.ProjectSearchResponseDto;
+import com.waggle.domain.project.service.ProjectService;
+import com.waggle.global.response.ApiStatus;
+import com.waggle.global.response.BaseResponse;
+import com.waggle.global.response.ErrorResponse;
+import com.waggle.global.response.SuccessResponse;
+import com.waggle.global.response.swagger.ProjectSearchSuccessResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "프로젝트 검색", description = "프로젝트 검색 관련 API")
+@RestController
+@RequestMapping("/project/search")
+@RequiredArgsConstructor
+public class ProjectSearchController {
+
+    private final ProjectService projectService;
+
+    @GetMapping("")
+    @Operation(
+            summary = "프로젝트 모집글 검색",
+            description = """
+            제목과 내용에서 검색어로 프로젝트 모집글을 관련도순으로 검색한다. (한국어 형태소 분석)
+            
+            제목이 내용보다 높은 가중치를 가진다. 하이라이트는 일치한 부분을 <em> 태그로 감싼 HTML 이스케이프 문자열이다.
+            
+            page는 0부터 시작하며, (page + 1) * size는 1000을 넘을 수 없다.
+            """
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "프로젝트 모집글 검색 성공",
+                    content = @Content(
+                            schema = @Schema(implementation = ProjectSearchSuccessResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "검색어가 비어 있거나 조회 범위를 벗어났습니다.",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    public ResponseEntity<BaseResponse<ProjectSearchResponseDto>> searchProjects(
+            @RequestParam("keyword") String keyword,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        return SuccessResponse.of(ApiStatus._OK, projectService.searchProjects(keyword, page, size));
+    }
+}
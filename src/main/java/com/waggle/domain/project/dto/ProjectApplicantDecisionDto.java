@@ -0,0 +1,21 @@
+package com.waggle.domain.project.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+import java.util.Set;
+import java.util.UUID;
+
+@Getter
+@Schema(description = "프로젝트 지원자 일괄 승인/거절 dto")
+public class ProjectApplicantDecisionDto {
+
+    @Schema(description = "승인할 사용자 고유키 목록", example = "[\"550e8400-e29b-41d4-a716-446655440000\"]")
+    @JsonProperty("approve_user_ids")
+    private Set<UUID> approveUserIds;
+
+    @Schema(description = "거절할 사용자 고유키 목록", example = "[\"550e8400-e29b-41d4-a716-446655440001\"]")
+    @JsonProperty("reject_user_ids")
+    private Set<UUID> rejectUserIds;
+}
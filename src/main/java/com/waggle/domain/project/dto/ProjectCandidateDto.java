@@ -0,0 +1,35 @@
+package com.waggle.domain.project.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.waggle.domain.project.match.MatchScore;
+import com.waggle.domain.user.dto.UserCardDto;
+import com.waggle.domain.user.entity.User;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(description = "프로젝트 적합도 순 사용자 dto")
+public class ProjectCandidateDto {
+
+    @Schema(description = "적합도 점수 (0~100)", example = "82")
+    @JsonProperty("score")
+    private int score;
+
+    @Schema(description = "프로젝트 사용 스킬 중 보유한 스킬 수", example = "3")
+    @JsonProperty("matched_skill_cnt")
+    private int matchedSkillCnt;
+
+    @Schema(description = "사용자 요약 정보")
+    @JsonProperty("user")
+    private UserCardDto user;
+
+    public static ProjectCandidateDto of(MatchScore score, User user) {
+        return ProjectCandidateDto.builder()
+                .score(score.score())
+                .matchedSkillCnt(score.matchedSkillCnt())
+                .user(UserCardDto.from(user))
+                .build();
+    }
+}
@@ -0,0 +1,20 @@
+package com.waggle.domain.project.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(description = "패싯 값별 프로젝트 수 dto")
+public class ProjectFacetCountDto {
+
+    @Schema(description = "참조 데이터 id", example = "1")
+    @JsonProperty("id")
+    private Long id;
+
+    @Schema(description = "프로젝트 수", example = "132")
+    @JsonProperty("count")
+    private int count;
+}
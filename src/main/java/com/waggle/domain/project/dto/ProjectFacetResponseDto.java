@@ -0,0 +1,64 @@
+package com.waggle.domain.project.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.waggle.domain.project.facet.ProjectFacet;
+import com.waggle.domain.project.facet.ProjectFacetResult;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Builder
+@Schema(description = "프로젝트 패싯 응답 dto")
+public class ProjectFacetResponseDto {
+
+    @Schema(description = "필터에 해당하는 모집 중인 프로젝트 수", example = "42")
+    @JsonProperty("total")
+    private int total;
+
+    @Schema(description = "산업 분야별 프로젝트 수")
+    @JsonProperty("industries")
+    private List<ProjectFacetCountDto> industries;
+
+    @Schema(description = "진행 방식별 프로젝트 수")
+    @JsonProperty("ways_of_working")
+    private List<ProjectFacetCountDto> waysOfWorking;
+
+    @Schema(description = "진행 기간별 프로젝트 수")
+    @JsonProperty("durations_of_working")
+    private List<ProjectFacetCountDto> durationsOfWorking;
+
+    @Schema(description = "스킬별 프로젝트 수")
+    @JsonProperty("skills")
+    private List<ProjectFacetCountDto> skills;
+
+    @Schema(description = "모집 직무별 프로젝트 수")
+    @JsonProperty("jobs")
+    private List<ProjectFacetCountDto> jobs;
+
+    public static ProjectFacetResponseDto from(ProjectFacetResult result) {
+        return ProjectFacetResponseDto.builder()
+                .total(result.total())
+                .industries(toCounts(result.counts().get(ProjectFacet.INDUSTRY)))
+                .waysOfWorking(toCounts(result.counts().get(ProjectFacet.WAYS_OF_WORKING)))
+                .durationsOfWorking(toCounts(result.counts().get(ProjectFacet.DURATION_OF_WORKING)))
+                .skills(toCounts(result.counts().get(ProjectFacet.SKILL)))
+                .jobs(toCounts(result.counts().get(ProjectFacet.JOB)))
+                .build();
+    }
+
+    // 건수 내림차순, 같으면 id 오름차순
+    private static List<ProjectFacetCountDto> toCounts(Map<Long, Integer> counts) {
+        return counts.entrySet().stream()
+                .sorted(Map.Entry.<Long, Integer>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .map(entry -> ProjectFacetCountDto.builder()
+                        .id(entry.getKey())
+                        .count(entry.getValue())
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,20 @@
+package com.waggle.domain.project.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Set;
+
+@Getter
+@Builder
+public class ProjectFeedCondition {
+
+    private Long industryId; //산업 분야
+    private Long wayOfWorkingId; //진행 방식
+    private Long durationOfWorkingId; //진행 기간
+    private Set<Long> skillIds; //사용 스킬 (하나라도 포함)
+    private Set<Long> jobIds; //모집 직무 (하나라도 포함)
+    private boolean recruiting; //모집 중인 글만
+    private ProjectFeedCursor cursor; //이전 페이지의 마지막 위치, 첫 페이지는 null
+    private int size;
+}
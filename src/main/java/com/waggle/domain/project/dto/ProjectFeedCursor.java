@@ -0,0 +1,35 @@
+package com.waggle.domain.project.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 피드 키셋 커서. (created_at, id) 쌍을 클라이언트에는 불투명한 문자열로 내려준다.
+ */
+public record ProjectFeedCursor(LocalDateTime createdAt, UUID id) {
+
+    private static final String DELIMITER = "|";
+
+    public static ProjectFeedCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = decoded.indexOf(DELIMITER);
+            return new ProjectFeedCursor(
+                    LocalDateTime.parse(decoded.substring(0, index)),
+                    UUID.fromString(decoded.substring(index + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
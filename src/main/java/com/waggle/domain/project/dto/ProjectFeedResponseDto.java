@@ -0,0 +1,26 @@
+package com.waggle.domain.project.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@Schema(description = "프로젝트 피드 응답 dto")
+public class ProjectFeedResponseDto {
+
+    @Schema(description = "프로젝트 목록 (최신순)")
+    @JsonProperty("projects")
+    private List<ProjectResponseDto> projects;
+
+    @Schema(description = "다음 페이지 커서, 마지막 페이지면 null", example = "MjAyNS0wMS0xOVQwMDowMDowMHw1NTBlODQwMC1lMjliLTQxZDQtYTcxNi00NDY2NTU0NDAwMDA")
+    @JsonProperty("next_cursor")
+    private String nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    @JsonProperty("has_next")
+    private boolean hasNext;
+}
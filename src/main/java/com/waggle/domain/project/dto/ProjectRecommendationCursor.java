@@ -0,0 +1,43 @@
+package com.waggle.domain.project.dto;
+
+import com.waggle.domain.project.recommend.ProjectRecommendationStore;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 추천 목록 키셋 커서. (score, id) 쌍을 클라이언트에는 불투명한 문자열로 내려준다.
+ */
+public record ProjectRecommendationCursor(int score, UUID projectId) {
+
+    private static final String DELIMITER = "|";
+
+    public static ProjectRecommendationCursor from(ProjectRecommendationStore.Entry entry) {
+        return new ProjectRecommendationCursor(entry.score(), entry.projectId());
+    }
+
+    public static ProjectRecommendationCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = decoded.indexOf(DELIMITER);
+            return new ProjectRecommendationCursor(
+                    Integer.parseInt(decoded.substring(0, index)),
+                    UUID.fromString(decoded.substring(index + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+
+    public ProjectRecommendationStore.Entry toEntry() {
+        return new ProjectRecommendationStore.Entry(projectId, score);
+    }
+
+    public String encode() {
+        String raw = score + DELIMITER + projectId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,26 @@
+package com.waggle.domain.project.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@Schema(description = "추천 프로젝트 응답 dto")
+public class ProjectRecommendationResponseDto {
+
+    @Schema(description = "프로젝트 목록 (추천순)")
+    @JsonProperty("projects")
+    private List<ProjectResponseDto> projects;
+
+    @Schema(description = "다음 페이지 커서, 마지막 페이지면 null", example = "ODV8NTUwZTg0MDAtZTI5Yi00MWQ0LWE3MTYtNDQ2NjU1NDQwMDAw")
+    @JsonProperty("next_cursor")
+    private String nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    @JsonProperty("has_next")
+    private boolean hasNext;
+}
@@ -6,6 +6,7 @@ import com.waggle.domain.reference.entity.*;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.time.LocalDateTime;
 import java.util.Comparator;
@@ -16,6 +17,7 @@ import java.util.stream.Collectors;
 
 @Getter
 @Builder
+@Jacksonized
 @Schema(description = "프로젝트 응답 dto")
 public class ProjectResponseDto {
 
@@ -67,10 +69,18 @@ public class ProjectResponseDto {
     @JsonProperty("reference_url")
     private String referenceUrl;
 
+    @Schema(description = "모집 상태 (RECRUITING: 모집 중, CLOSED: 모집 마감)", example = "RECRUITING")
+    @JsonProperty("status")
+    private RecruitmentStatus status;
+
     @Schema(description = "북마크 수", example = "0")
     @JsonProperty("bookmark_cnt")
     private int bookmarkCnt;
 
+    @Schema(description = "조회 수 (수 초 단위로 모아서 반영)", example = "0")
+    @JsonProperty("view_cnt")
+    private long viewCnt;
+
     @Schema(description = "생성 일자", example = "2001-05-21T00:00:00")
     @JsonProperty("created_at")
     private LocalDateTime createdAt;
@@ -86,6 +96,7 @@ public class ProjectResponseDto {
                 .industry(project.getIndustry())
                 .waysOfWorking(project.getWaysOfWorking())
                 .recruitmentDate(project.getRecruitmentDate())
+                .status(project.getStatus())
                 .durationOfWorking(project.getDurationOfWorking())
                 .recruitmentJobs(project.getRecruitmentJobs().stream()
                         .sorted(Comparator.comparing(prj -> prj.getJob().getId()))
@@ -100,6 +111,7 @@ public class ProjectResponseDto {
                 .connectUrl(project.getConnectUrl())
                 .referenceUrl(project.getReferenceUrl())
                 .bookmarkCnt(project.getBookmarkCnt())
+                .viewCnt(project.getViewCnt())
                 .createdAt(project.getCreatedAt())
                 .updatedAt(project.getUpdatedAt())
                 .build();
@@ -0,0 +1,28 @@
+package com.waggle.domain.project.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(description = "프로젝트 검색 결과 항목 dto")
+public class ProjectSearchHitDto {
+
+    @Schema(description = "프로젝트")
+    @JsonProperty("project")
+    private ProjectResponseDto project;
+
+    @Schema(description = "제목 하이라이트 (일치 부분을 <em>으로 감싼 HTML 이스케이프 문자열, 일치하지 않으면 원문)", example = "<em>스프링</em> 백엔드 개발자 모집")
+    @JsonProperty("title_highlight")
+    private String titleHighlight;
+
+    @Schema(description = "내용 하이라이트 (일치 부분 주변 발췌, 일치하지 않으면 앞부분)", example = "... <em>스프링</em> 부트로 API 서버를 ...")
+    @JsonProperty("detail_highlight")
+    private String detailHighlight;
+
+    @Schema(description = "검색 점수", example = "3.41")
+    @JsonProperty("score")
+    private float score;
+}
@@ -0,0 +1,34 @@
+package com.waggle.domain.project.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@Schema(description = "프로젝트 검색 응답 dto")
+public class ProjectSearchResponseDto {
+
+    @Schema(description = "검색 결과 (관련도순)")
+    @JsonProperty("hits")
+    private List<ProjectSearchHitDto> hits;
+
+    @Schema(description = "전체 검색 결과 수", example = "42")
+    @JsonProperty("total")
+    private long total;
+
+    @Schema(description = "페이지 번호 (0부터 시작)", example = "0")
+    @JsonProperty("page")
+    private int page;
+
+    @Schema(description = "페이지 크기", example = "20")
+    @JsonProperty("size")
+    private int size;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    @JsonProperty("has_next")
+    private boolean hasNext;
+}
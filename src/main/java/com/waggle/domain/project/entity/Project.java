@@ -14,12 +14,43 @@ import java.util.Set;
 import java.util.UUID;
 
 @Entity
+// 용도별 로딩 범위. 컬렉션은 기본 LAZY이고 필요한 경우에만 아래 그래프로 함께 읽는다.
+// 단건 상세: 모집 직무/멤버 직무/스킬은 참조 데이터 크기로 상한이 정해져 있어 한 프로젝트는 한 번에 join 해도 행 수가 작다.
+// 목록: 여러 컬렉션을 함께 join 하면 프로젝트마다 행이 곱으로 불어나므로 모집 직무만 join 하고,
+// 나머지는 default_batch_fetch_size 로 컬렉션 종류별 IN 조회로 읽는다.
+@NamedEntityGraphs({
+        @NamedEntityGraph(name = "Project.detail", attributeNodes = {
+                @NamedAttributeNode(value = "recruitmentJobs", subgraph = "job"),
+                @NamedAttributeNode(value = "memberJobs", subgraph = "job"),
+                @NamedAttributeNode(value = "projectSkills", subgraph = "skill")
+        }, subgraphs = {
+                @NamedSubgraph(name = "job", attributeNodes = @NamedAttributeNode("job")),
+                @NamedSubgraph(name = "skill", attributeNodes = @NamedAttributeNode("skill"))
+        }),
+        @NamedEntityGraph(name = "Project.list", attributeNodes = {
+                @NamedAttributeNode(value = "recruitmentJobs", subgraph = "job")
+        }, subgraphs = {
+                @NamedSubgraph(name = "job", attributeNodes = @NamedAttributeNode("job"))
+        })
+})
 @Getter //getter: 값을 가져올 수 있게 해주는 것, setter: 값을 수정할 수 있게 해주는 것
 @Setter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "projects")
+@Table(name = "projects", indexes = {
+        // 피드 정렬(created_at DESC, id DESC) 및 키셋 커서 비교용
+        @Index(name = "idx_projects_created_at_id", columnList = "created_at, id"),
+        // 필터 + 정렬 조합용
+        @Index(name = "idx_projects_industry_created_at", columnList = "industry_id, created_at"),
+        @Index(name = "idx_projects_wow_created_at", columnList = "ways_of_working_id, created_at"),
+        @Index(name = "idx_projects_dow_created_at", columnList = "dow_id, created_at"),
+        @Index(name = "idx_projects_recruitment_date", columnList = "recruitment_date"),
+        // 모집 중인 글 피드(status = RECRUITING, created_at DESC, id DESC)와 마감 처리 대상 조회용
+        @Index(name = "idx_projects_status_created_at_id", columnList = "status, created_at, id"),
+        @Index(name = "idx_projects_status_recruitment_date", columnList = "status, recruitment_date"),
+        @Index(name = "idx_projects_leader_id", columnList = "leader_id")
+})
 public class Project {
 
     @Id
@@ -31,14 +62,20 @@ public class Project {
     private String title; //제목
 
     @ManyToOne
+    @JoinColumn(name = "industry_id")
     private Industry industry; //산업 분야
 
     @ManyToOne
+    @JoinColumn(name = "ways_of_working_id")
     private WaysOfWorking waysOfWorking; //진행 방식
 
     @Column(name = "recruitment_date", nullable = false)
     private LocalDateTime recruitmentDate; //프로젝트 모집 마감 일자
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, columnDefinition = "varchar(20) not null default 'RECRUITING'")
+    private RecruitmentStatus status; //모집 상태
+
     @ManyToOne
     @JoinColumn(name = "dow_id")
     private DurationOfWorking durationOfWorking; //진행 기간
@@ -46,13 +83,13 @@ public class Project {
     //cascade=강제삭제방식
     //mappedBy=연결된 필드 변수 명
     //set=배열(gpt 추천)
-    @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+    @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     private Set<ProjectRecruitmentJob> recruitmentJobs; //모집 직무
 
-    @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+    @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     private Set<ProjectMemberJob> memberJobs; //멤버 직무
 
-    @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+    @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     private Set<ProjectSkill> projectSkills; //사용 스킬
 
     @Column(length = 1000)
@@ -67,14 +104,29 @@ public class Project {
     @Schema(description = "참조 링크", example = "www.naver.com")
     private String referenceUrl; //참고 링크
 
-    @Column(name = "bookmark_cnt")
+    // 북마크 수/조회 수는 SQL 로 직접 증감하므로, 엔티티 저장 시 읽어둔 값으로 덮어쓰지 않게 한다.
+    @Column(name = "bookmark_cnt", updatable = false)
     @Schema(description = "북마크 수(스크랩)", example = "0")
     private int bookmarkCnt; //북마크 수(스크랩)
 
-    @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+    // 조회마다 갱신하지 않고 ProjectViewCounter 가 모아서 반영한다.
+    @Column(name = "view_cnt", columnDefinition = "bigint not null default 0", updatable = false)
+    @Schema(description = "조회 수", example = "0")
+    private long viewCnt; //조회 수
+
+    // 리더 권한 확인용. ProjectMember.isLeader 와 같은 사용자를 가리키며, 위임 시 SQL 로 함께 바꾼다.
+    @Column(name = "leader_id", updatable = false)
+    private UUID leaderId; //리더 id
+
+    // 낙관적 락. 수정/삭제끼리의 충돌만 감지하고, 멤버/지원자 변경은 단건 SQL 로 처리해 올리지 않는다.
+    @Version
+    @Column(name = "version", columnDefinition = "bigint not null default 0")
+    private long version;
+
+    @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     private Set<ProjectMember> projectMembers; //참여자
 
-    @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+    @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     private Set<ProjectApplicant> projectApplicants; //지원자
 
     @CreationTimestamp
@@ -19,6 +19,10 @@ import java.util.UUID;
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = {
+        // 중복 지원 방지. 지원자 조회/단건 변경도 이 인덱스를 쓴다.
+        @UniqueConstraint(name = "uk_project_applicant_project_user", columnNames = {"project_id", "user_id"})
+})
 public class ProjectApplicant {
 
     @Id
@@ -16,6 +16,10 @@ import java.util.UUID;
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = {
+        // 북마크 토글의 insert-or-delete 기준. 동시 요청이 와도 한 건만 남는다.
+        @UniqueConstraint(name = "uk_project_bookmark_user_project", columnNames = {"user_id", "project_id"})
+})
 public class ProjectBookmark {
 
     @Id
@@ -20,6 +20,10 @@ import java.util.UUID;
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = {
+        // 중복 참여 방지. 리더 확인/참여자 조회/단건 변경도 이 인덱스 한 번으로 처리한다.
+        @UniqueConstraint(name = "uk_project_member_project_user", columnNames = {"project_id", "user_id"})
+})
 public class ProjectMember {
 
     @Id
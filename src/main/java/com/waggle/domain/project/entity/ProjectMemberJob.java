@@ -36,4 +36,8 @@ public class ProjectMemberJob {
 
     @JsonProperty("member_cnt")
     private int memberCnt;
+
+    public void updateMemberCnt(int memberCnt) {
+        this.memberCnt = memberCnt;
+    }
 }
\ No newline at end of file
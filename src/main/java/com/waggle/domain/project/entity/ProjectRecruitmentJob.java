@@ -14,6 +14,7 @@ import java.util.UUID;
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_project_recruitment_job_job_project", columnList = "job_id, project_id"))
 public class ProjectRecruitmentJob {
 
     @Id
@@ -37,4 +38,8 @@ public class ProjectRecruitmentJob {
     @Column(name = "recruitment_cnt", nullable = false, columnDefinition = "integer default 0")
     @JsonProperty("recruitment_cnt")
     private int recruitmentCnt;
+
+    public void updateRecruitmentCnt(int recruitmentCnt) {
+        this.recruitmentCnt = recruitmentCnt;
+    }
 }
\ No newline at end of file
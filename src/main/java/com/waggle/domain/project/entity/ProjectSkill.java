@@ -14,6 +14,7 @@ import java.util.UUID;
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_project_skill_skill_project", columnList = "skill_id, project_id"))
 public class ProjectSkill {
 
     @Id
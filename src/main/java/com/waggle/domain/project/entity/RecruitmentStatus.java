@@ -0,0 +1,15 @@
+package com.waggle.domain.project.entity;
+
+import java.time.LocalDateTime;
+
+/**
+ * 모집글 상태. 마감일이 지난 글은 ProjectRecruitmentCloser 가 주기적으로 CLOSED 로 바꾼다.
+ */
+public enum RecruitmentStatus {
+    RECRUITING, // 모집 중
+    CLOSED;     // 모집 마감
+
+    public static RecruitmentStatus of(LocalDateTime recruitmentDate, LocalDateTime now) {
+        return recruitmentDate != null && recruitmentDate.isAfter(now) ? RECRUITING : CLOSED;
+    }
+}
@@ -0,0 +1,9 @@
+package com.waggle.domain.project.event;
+
+import java.util.UUID;
+
+/**
+ * 사용자가 프로젝트에 지원했을 때 발행된다.
+ */
+public record ProjectAppliedEvent(UUID projectId) implements ProjectEvent {
+}
@@ -0,0 +1,9 @@
+package com.waggle.domain.project.event;
+
+import java.util.UUID;
+
+/**
+ * 북마크가 실제로 추가/해제되었을 때 발행된다.
+ */
+public record ProjectBookmarkToggledEvent(UUID projectId, boolean bookmarked) implements ProjectEvent {
+}
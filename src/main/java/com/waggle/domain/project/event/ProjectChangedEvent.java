@@ -0,0 +1,9 @@
+package com.waggle.domain.project.event;
+
+import java.util.UUID;
+
+/**
+ * 프로젝트 상세 응답에 영향을 주는 변경이 일어났을 때 발행된다.
+ */
+public record ProjectChangedEvent(UUID projectId) implements ProjectEvent {
+}
@@ -0,0 +1,9 @@
+package com.waggle.domain.project.event;
+
+import java.util.UUID;
+
+/**
+ * 프로젝트 모집글이 생성되었을 때 발행된다.
+ */
+public record ProjectCreatedEvent(UUID projectId) implements ProjectEvent {
+}
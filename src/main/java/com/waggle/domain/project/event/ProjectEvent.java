@@ -0,0 +1,10 @@
+package com.waggle.domain.project.event;
+
+import java.util.UUID;
+
+/**
+ * 프로젝트 단위로 발행되는 도메인 이벤트의 공통 타입.
+ */
+public interface ProjectEvent {
+    UUID projectId();
+}
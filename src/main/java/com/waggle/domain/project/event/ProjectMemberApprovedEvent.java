@@ -0,0 +1,10 @@
+package com.waggle.domain.project.event;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 리더가 지원자를 멤버로 승인했을 때 발행된다. (일괄 승인은 한 번에 발행)
+ */
+public record ProjectMemberApprovedEvent(UUID projectId, Set<UUID> userIds) implements ProjectEvent {
+}
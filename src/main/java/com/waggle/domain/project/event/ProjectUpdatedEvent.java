@@ -0,0 +1,9 @@
+package com.waggle.domain.project.event;
+
+import java.util.UUID;
+
+/**
+ * 프로젝트 모집글 본문(제목, 내용, 조건 등)이 수정되었을 때 발행된다.
+ */
+public record ProjectUpdatedEvent(UUID projectId) implements ProjectEvent {
+}
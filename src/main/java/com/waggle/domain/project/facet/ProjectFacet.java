@@ -0,0 +1,12 @@
+package com.waggle.domain.project.facet;
+
+/**
+ * 필터/패싯 집계 대상이 되는 참조 데이터 차원.
+ */
+public enum ProjectFacet {
+    INDUSTRY,            // 산업 분야
+    WAYS_OF_WORKING,     // 진행 방식
+    DURATION_OF_WORKING, // 진행 기간
+    SKILL,               // 사용 스킬
+    JOB                  // 모집 직무
+}
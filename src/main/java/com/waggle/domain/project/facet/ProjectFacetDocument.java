@@ -0,0 +1,27 @@
+package com.waggle.domain.project.facet;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 패싯 색인에 들어가는 프로젝트 한 건. 색인에서 뺄 때도 이 값으로 정확히 지운다.
+ */
+public record ProjectFacetDocument(UUID id, LocalDateTime recruitmentDate, Long industryId, Long waysOfWorkingId,
+                                   Long durationOfWorkingId, Set<Long> skillIds, Set<Long> jobIds) {
+
+    public static ProjectFacetDocument of(ProjectFacetRow row, Set<Long> skillIds, Set<Long> jobIds) {
+        return new ProjectFacetDocument(row.id(), row.recruitmentDate(), row.industryId(), row.waysOfWorkingId(),
+                row.durationOfWorkingId(), skillIds, jobIds);
+    }
+
+    public Set<Long> values(ProjectFacet facet) {
+        return switch (facet) {
+            case INDUSTRY -> industryId == null ? Set.of() : Set.of(industryId);
+            case WAYS_OF_WORKING -> waysOfWorkingId == null ? Set.of() : Set.of(waysOfWorkingId);
+            case DURATION_OF_WORKING -> durationOfWorkingId == null ? Set.of() : Set.of(durationOfWorkingId);
+            case SKILL -> skillIds;
+            case JOB -> jobIds;
+        };
+    }
+}
@@ -0,0 +1,44 @@
+package com.waggle.domain.project.facet;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 패싯 필터. 차원 사이는 AND, 한 차원 안의 값들은 기본 OR 이고 matchAll 에 포함된 차원은 AND 로 묶는다.
+ */
+public record ProjectFacetFilter(Map<ProjectFacet, Set<Long>> values, Set<ProjectFacet> matchAll) {
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private final Map<ProjectFacet, Set<Long>> values = new EnumMap<>(ProjectFacet.class);
+        private final Set<ProjectFacet> matchAll = EnumSet.noneOf(ProjectFacet.class);
+
+        public Builder anyOf(ProjectFacet facet, Set<Long> ids) {
+            if (ids != null && !ids.isEmpty()) {
+                values.put(facet, Set.copyOf(ids));
+            }
+            return this;
+        }
+
+        public Builder allOf(ProjectFacet facet, Set<Long> ids) {
+            if (ids != null && !ids.isEmpty()) {
+                values.put(facet, Set.copyOf(ids));
+                matchAll.add(facet);
+            }
+            return this;
+        }
+
+        public Builder eq(ProjectFacet facet, Long id) {
+            return id == null ? this : anyOf(facet, Set.of(id));
+        }
+
+        public ProjectFacetFilter build() {
+            return new ProjectFacetFilter(values, matchAll);
+        }
+    }
+}
@@ -0,0 +1,308 @@
+package com.waggle.domain.project.facet;
+
+import com.waggle.config.AsyncConfig;
+import com.waggle.domain.project.event.ProjectCreatedEvent;
+import com.waggle.domain.project.event.ProjectDeletedEvent;
+import com.waggle.domain.project.event.ProjectUpdatedEvent;
+import com.waggle.domain.project.repository.ProjectRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 모집 중인 프로젝트에 대한 인메모리 패싯 색인.
+ * 프로젝트마다 촘촘한 정수 번호(ordinal)를 붙이고, 참조 데이터 id 별로 해당 번호들을 Roaring 비트맵으로 들고 있는다.
+ * 참조 데이터는 수십 건 수준이라 비트맵 수가 작고, 필터 교집합과 패싯 건수를 DB 조회 없이 계산할 수 있다.
+ * 기동 시 MySQL 로부터 만들고, 이후에는 커밋된 변경 이벤트와 마감 정리로 갱신한다.
+ */
+@Slf4j
+@Component
+public class ProjectFacetIndex {
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final ProjectRepository projectRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private Postings postings = new Postings();
+
+    // 재색인 중 들어온 변경. 새 색인으로 교체한 뒤 다시 반영한다.
+    private final Set<UUID> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuilding;
+
+    public ProjectFacetIndex(ProjectRepository projectRepository) {
+        this.projectRepository = projectRepository;
+    }
+
+    public ProjectFacetResult query(ProjectFacetFilter filter) {
+        lock.readLock().lock();
+        try {
+            return postings.query(filter);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * MySQL 의 모집 중인 프로젝트로 색인을 다시 만든다.
+     *
+     * @return 색인한 프로젝트 수
+     */
+    public int rebuild() {
+        if (!rebuildLock.tryLock()) {
+            throw new IllegalStateException("이미 패싯 색인을 재구성하는 중입니다.");
+        }
+        try {
+            changedDuringRebuild.clear();
+            rebuilding = true;
+
+            Postings fresh = new Postings();
+            LocalDateTime now = LocalDateTime.now();
+            UUID lastId = new UUID(0L, 0L);
+            List<ProjectFacetRow> batch;
+            do {
+                batch = projectRepository.findOpenFacetRowsAfter(lastId, now, PageRequest.ofSize(REBUILD_BATCH_SIZE));
+                load(batch).forEach(fresh::add);
+                if (!batch.isEmpty()) {
+                    lastId = batch.get(batch.size() - 1).id();
+                }
+            } while (batch.size() == REBUILD_BATCH_SIZE);
+
+            lock.writeLock().lock();
+            try {
+                postings = fresh;
+                rebuilding = false;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            changedDuringRebuild.forEach(this::reindex);
+            return fresh.size();
+        } finally {
+            rebuilding = false;
+            rebuildLock.unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        long start = System.currentTimeMillis();
+        try {
+            int count = rebuild();
+            log.info("프로젝트 패싯 색인 구성 완료: {}건, {}ms", count, System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            log.error("프로젝트 패싯 색인 구성 실패", e);
+        }
+    }
+
+    @Async(AsyncConfig.PROJECT_EVENT_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProjectCreated(ProjectCreatedEvent event) {
+        reindex(event.projectId());
+    }
+
+    @Async(AsyncConfig.PROJECT_EVENT_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProjectUpdated(ProjectUpdatedEvent event) {
+        reindex(event.projectId());
+    }
+
+    @Async(AsyncConfig.PROJECT_EVENT_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProjectDeleted(ProjectDeletedEvent event) {
+        apply(event.projectId(), null);
+    }
+
+    // 마감된 프로젝트는 주기적으로 색인에서 뺀다.
+    @Scheduled(fixedDelay = 1, timeUnit = TimeUnit.MINUTES)
+    public void evictClosed() {
+        lock.writeLock().lock();
+        try {
+            int evicted = postings.removeClosed(LocalDateTime.now());
+            if (evicted > 0) {
+                log.debug("마감된 프로젝트 패싯 색인 제외: {}건", evicted);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 색인 실패가 이미 커밋된 요청을 실패시키지 않도록 로그만 남긴다. (다음 재색인 때 맞춰진다)
+    private void reindex(UUID projectId) {
+        try {
+            ProjectFacetDocument document = projectRepository.findFacetRowById(projectId)
+                    .filter(row -> row.recruitmentDate().isAfter(LocalDateTime.now()))
+                    .map(row -> load(List.of(row)).get(0))
+                    .orElse(null);
+            apply(projectId, document);
+        } catch (RuntimeException e) {
+            log.warn("프로젝트 패싯 색인 갱신 실패: {}", projectId, e);
+        }
+    }
+
+    private void apply(UUID projectId, ProjectFacetDocument document) {
+        lock.writeLock().lock();
+        try {
+            postings.remove(projectId);
+            if (document != null) {
+                postings.add(document);
+            }
+            if (rebuilding) {
+                changedDuringRebuild.add(projectId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private List<ProjectFacetDocument> load(List<ProjectFacetRow> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        List<UUID> ids = rows.stream().map(ProjectFacetRow::id).toList();
+        Map<UUID, Set<Long>> skills = group(projectRepository.findSkillRowsByProjectIdIn(ids));
+        Map<UUID, Set<Long>> jobs = group(projectRepository.findRecruitmentJobRowsByProjectIdIn(ids));
+        return rows.stream()
+                .map(row -> ProjectFacetDocument.of(row,
+                        skills.getOrDefault(row.id(), Set.of()),
+                        jobs.getOrDefault(row.id(), Set.of())))
+                .toList();
+    }
+
+    private Map<UUID, Set<Long>> group(List<ProjectReferenceRow> rows) {
+        return rows.stream().collect(Collectors.groupingBy(ProjectReferenceRow::projectId,
+                Collectors.mapping(ProjectReferenceRow::referenceId, Collectors.toUnmodifiableSet())));
+    }
+
+    /**
+     * 색인 본체. 동시성 제어는 바깥 락에 맡긴다.
+     */
+    private static final class Postings {
+
+        private final Map<UUID, Integer> ordinals = new HashMap<>();
+        private final Map<Integer, ProjectFacetDocument> documents = new HashMap<>();
+        private final Map<ProjectFacet, Map<Long, RoaringBitmap>> bitmaps = new EnumMap<>(ProjectFacet.class);
+        private final RoaringBitmap all = new RoaringBitmap();
+        // 빠진 프로젝트의 번호는 재사용해 비트맵을 촘촘하게 유지한다.
+        private final RoaringBitmap freeOrdinals = new RoaringBitmap();
+        private int nextOrdinal;
+
+        private Postings() {
+            for (ProjectFacet facet : ProjectFacet.values()) {
+                bitmaps.put(facet, new HashMap<>());
+            }
+        }
+
+        private int size() {
+            return ordinals.size();
+        }
+
+        private void add(ProjectFacetDocument document) {
+            int ordinal;
+            if (freeOrdinals.isEmpty()) {
+                ordinal = nextOrdinal++;
+            } else {
+                ordinal = freeOrdinals.first();
+                freeOrdinals.remove(ordinal);
+            }
+            ordinals.put(document.id(), ordinal);
+            documents.put(ordinal, document);
+            all.add(ordinal);
+            for (ProjectFacet facet : ProjectFacet.values()) {
+                for (Long value : document.values(facet)) {
+                    bitmaps.get(facet).computeIfAbsent(value, key -> new RoaringBitmap()).add(ordinal);
+                }
+            }
+        }
+
+        private void remove(UUID projectId) {
+            Integer ordinal = ordinals.remove(projectId);
+            if (ordinal == null) {
+                return;
+            }
+            ProjectFacetDocument document = documents.remove(ordinal);
+            all.remove(ordinal);
+            freeOrdinals.add(ordinal);
+            for (ProjectFacet facet : ProjectFacet.values()) {
+                Map<Long, RoaringBitmap> facetBitmaps = bitmaps.get(facet);
+                for (Long value : document.values(facet)) {
+                    RoaringBitmap bitmap = facetBitmaps.get(value);
+                    if (bitmap != null) {
+                        bitmap.remove(ordinal);
+                        if (bitmap.isEmpty()) {
+                            facetBitmaps.remove(value);
+                        }
+                    }
+                }
+            }
+        }
+
+        private int removeClosed(LocalDateTime now) {
+            List<UUID> closed = documents.values().stream()
+                    .filter(document -> !document.recruitmentDate().isAfter(now))
+                    .map(ProjectFacetDocument::id)
+                    .toList();
+            closed.forEach(this::remove);
+            return closed.size();
+        }
+
+        private ProjectFacetResult query(ProjectFacetFilter filter) {
+            Map<ProjectFacet, RoaringBitmap> selected = new EnumMap<>(ProjectFacet.class);
+            filter.values().forEach((facet, ids) ->
+                    selected.put(facet, select(facet, ids, filter.matchAll().contains(facet))));
+            RoaringBitmap matched = intersect(selected, null);
+
+            Map<ProjectFacet, Map<Long, Integer>> counts = new EnumMap<>(ProjectFacet.class);
+            for (ProjectFacet facet : ProjectFacet.values()) {
+                // OR 로 고른 차원은 자기 조건을 빼고 세야 "이 값을 추가로 고르면 몇 건"이 된다.
+                RoaringBitmap base = selected.containsKey(facet) && !filter.matchAll().contains(facet)
+                        ? intersect(selected, facet)
+                        : matched;
+                Map<Long, Integer> facetCounts = new HashMap<>();
+                bitmaps.get(facet).forEach((value, bitmap) -> {
+                    int count = RoaringBitmap.andCardinality(base, bitmap);
+                    if (count > 0) {
+                        facetCounts.put(value, count);
+                    }
+                });
+                counts.put(facet, facetCounts);
+            }
+            return new ProjectFacetResult(matched.getCardinality(), counts);
+        }
+
+        private RoaringBitmap select(ProjectFacet facet, Set<Long> ids, boolean matchAll) {
+            Map<Long, RoaringBitmap> facetBitmaps = bitmaps.get(facet);
+            Iterator<RoaringBitmap> values = ids.stream()
+                    .map(id -> facetBitmaps.getOrDefault(id, new RoaringBitmap()))
+                    .iterator();
+            return matchAll ? FastAggregation.and(values) : FastAggregation.or(values);
+        }
+
+        private RoaringBitmap intersect(Map<ProjectFacet, RoaringBitmap> selected, ProjectFacet excluded) {
+            RoaringBitmap result = all.clone();
+            selected.forEach((facet, bitmap) -> {
+                if (facet != excluded) {
+                    result.and(bitmap);
+                }
+            });
+            return result;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.waggle.domain.project.facet;
+
+import java.util.Map;
+
+/**
+ * 패싯 조회 결과. counts 는 차원별 참조 id -> 프로젝트 수이며, 0건인 값은 포함하지 않는다.
+ */
+public record ProjectFacetResult(int total, Map<ProjectFacet, Map<Long, Integer>> counts) {
+}
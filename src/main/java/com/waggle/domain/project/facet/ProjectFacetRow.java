@@ -0,0 +1,11 @@
+package com.waggle.domain.project.facet;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 패싯 색인용 프로젝트 단일 값 컬럼 projection.
+ */
+public record ProjectFacetRow(UUID id, Long industryId, Long waysOfWorkingId, Long durationOfWorkingId,
+                              LocalDateTime recruitmentDate) {
+}
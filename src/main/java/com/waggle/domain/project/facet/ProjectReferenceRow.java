@@ -0,0 +1,9 @@
+package com.waggle.domain.project.facet;
+
+import java.util.UUID;
+
+/**
+ * 프로젝트와 다중 값 참조 데이터(스킬, 모집 직무)의 연결 projection.
+ */
+public record ProjectReferenceRow(UUID projectId, Long referenceId) {
+}
@@ -0,0 +1,9 @@
+package com.waggle.domain.project.match;
+
+import java.util.UUID;
+
+/**
+ * 후보 사용자의 직무와 경력 projection.
+ */
+public record CandidateJobRow(UUID userId, Long jobId, int yearCnt) {
+}
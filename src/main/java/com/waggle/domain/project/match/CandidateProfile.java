@@ -0,0 +1,10 @@
+package com.waggle.domain.project.match;
+
+import java.util.UUID;
+
+/**
+ * 점수 계산에 쓰는 사용자 쪽 조건. jobIds 와 yearCnts 는 같은 순서의 병렬 배열이다.
+ */
+public record CandidateProfile(UUID userId, long[] skillBits, long[] jobIds, int[] yearCnts,
+                               Long waysOfWorkingId, int weekDaysCount) {
+}
@@ -0,0 +1,9 @@
+package com.waggle.domain.project.match;
+
+import java.util.UUID;
+
+/**
+ * 후보 사용자와 다중 값 참조 데이터(스킬, 요일)의 연결 projection.
+ */
+public record CandidateReferenceRow(UUID userId, Long referenceId) {
+}
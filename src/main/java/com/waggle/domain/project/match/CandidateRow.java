@@ -0,0 +1,9 @@
+package com.waggle.domain.project.match;
+
+import java.util.UUID;
+
+/**
+ * 후보 사용자 단일 값 컬럼 projection.
+ */
+public record CandidateRow(UUID userId, Long waysOfWorkingId) {
+}
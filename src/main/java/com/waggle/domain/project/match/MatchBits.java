@@ -0,0 +1,56 @@
+package com.waggle.domain.project.match;
+
+import java.util.Collection;
+
+/**
+ * 참조 데이터 id 집합을 long[] 비트셋으로 다룬다. 스킬/직무 id 는 작은 정수라 수 워드면 충분하다.
+ * 교집합 크기는 워드별 AND + bitCount 로 구해 후보 한 명당 할당 없이 계산한다.
+ */
+public final class MatchBits {
+
+    // 참조 데이터 id 상한. 이보다 큰 id 는 비트셋 대신 잘못된 데이터로 본다.
+    private static final long MAX_ID = 1 << 16;
+    private static final long[] EMPTY = new long[0];
+
+    private MatchBits() {
+    }
+
+    public static long[] of(Collection<Long> ids) {
+        long max = -1;
+        for (Long id : ids) {
+            if (id == null || id < 0 || id >= MAX_ID) {
+                throw new IllegalArgumentException("비트셋으로 표현할 수 없는 id 입니다: " + id);
+            }
+            max = Math.max(max, id);
+        }
+        if (max < 0) {
+            return EMPTY;
+        }
+        long[] words = new long[(int) (max >>> 6) + 1];
+        for (Long id : ids) {
+            words[(int) (id >>> 6)] |= 1L << id;
+        }
+        return words;
+    }
+
+    public static boolean contains(long[] bits, long id) {
+        int word = (int) (id >>> 6);
+        return id >= 0 && word < bits.length && (bits[word] & (1L << id)) != 0;
+    }
+
+    public static int intersectionCount(long[] a, long[] b) {
+        int count = 0;
+        for (int i = 0, n = Math.min(a.length, b.length); i < n; i++) {
+            count += Long.bitCount(a[i] & b[i]);
+        }
+        return count;
+    }
+
+    public static int cardinality(long[] bits) {
+        int count = 0;
+        for (long word : bits) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+}
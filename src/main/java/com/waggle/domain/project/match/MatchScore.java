@@ -0,0 +1,15 @@
+package com.waggle.domain.project.match;
+
+import java.util.Comparator;
+import java.util.UUID;
+
+/**
+ * 후보 한 명의 적합도. score 는 0~100, 동점이면 겹치는 스킬 수와 id 순으로 정렬한다.
+ */
+public record MatchScore(UUID userId, int score, int matchedSkillCnt) {
+
+    public static final Comparator<MatchScore> BEST_FIRST = Comparator
+            .comparingInt(MatchScore::score).reversed()
+            .thenComparing(Comparator.comparingInt(MatchScore::matchedSkillCnt).reversed())
+            .thenComparing(MatchScore::userId);
+}
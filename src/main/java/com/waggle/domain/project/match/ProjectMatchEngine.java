@@ -0,0 +1,150 @@
+package com.waggle.domain.project.match;
+
+import com.waggle.domain.project.facet.ProjectFacetRow;
+import com.waggle.domain.project.repository.ProjectRepository;
+import com.waggle.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 프로젝트와 후보 사용자의 조건을 id projection 으로 읽어 비트셋 프로필로 만들고 점수순으로 고른다.
+ * 엔티티를 로딩하지 않으므로 후보가 수천 명이어도 참조 종류별 쿼리 몇 번과 비트 연산으로 끝난다.
+ */
+@Component
+public class ProjectMatchEngine {
+
+    // IN 절 하나에 넣는 사용자 수
+    private static final int LOAD_BATCH_SIZE = 1000;
+    // 추천 후보군 크기. 스킬이 많이 겹치는 순, 경력이 긴 순으로 각각 이만큼 뽑아 합친다.
+    private static final int CANDIDATE_POOL_SIZE = 2000;
+
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final ProjectMatchScorer projectMatchScorer;
+    private final Timer rankTimer;
+
+    public ProjectMatchEngine(ProjectRepository projectRepository,
+                              UserRepository userRepository,
+                              ProjectMatchScorer projectMatchScorer,
+                              MeterRegistry meterRegistry) {
+        this.projectRepository = projectRepository;
+        this.userRepository = userRepository;
+        this.projectMatchScorer = projectMatchScorer;
+        this.rankTimer = meterRegistry.timer("project.match.rank");
+    }
+
+    public ProjectMatchProfile profile(UUID projectId) {
+        ProjectFacetRow row = projectRepository.findFacetRowById(projectId)
+                .orElseThrow(() -> new EmptyResultDataAccessException(1));
+        return profiles(List.of(row)).get(projectId);
+    }
+
+    /**
+     * 여러 프로젝트의 프로필을 참조 종류별 쿼리 한 번씩으로 만든다.
+     */
+    public Map<UUID, ProjectMatchProfile> profiles(List<ProjectFacetRow> rows) {
+        List<UUID> projectIds = rows.stream().map(ProjectFacetRow::id).toList();
+        Map<UUID, Set<Long>> jobs = new HashMap<>();
+        projectRepository.findRecruitmentJobRowsByProjectIdIn(projectIds)
+                .forEach(job -> jobs.computeIfAbsent(job.projectId(), id -> new HashSet<>()).add(job.referenceId()));
+        Map<UUID, Set<Long>> skills = new HashMap<>();
+        projectRepository.findSkillRowsByProjectIdIn(projectIds)
+                .forEach(skill -> skills.computeIfAbsent(skill.projectId(), id -> new HashSet<>()).add(skill.referenceId()));
+
+        Map<UUID, ProjectMatchProfile> profiles = new HashMap<>();
+        for (ProjectFacetRow row : rows) {
+            Set<Long> skillIds = skills.getOrDefault(row.id(), Set.of());
+            profiles.put(row.id(), new ProjectMatchProfile(row.id(),
+                    MatchBits.of(jobs.getOrDefault(row.id(), Set.of())),
+                    MatchBits.of(skillIds), skillIds.size(), row.waysOfWorkingId()));
+        }
+        return profiles;
+    }
+
+    /**
+     * 모집 스킬/직무가 하나라도 겹치는 사용자 id. 전체 사용자를 보지 않도록 겹치는 정도가 큰 순으로 잘라 온다.
+     */
+    public Set<UUID> candidatePool(ProjectMatchProfile profile) {
+        Set<UUID> pool = new LinkedHashSet<>();
+        Set<Long> skillIds = ids(profile.skillBits());
+        if (!skillIds.isEmpty()) {
+            pool.addAll(userRepository.findUserIdsBySkillOverlap(skillIds, PageRequest.ofSize(CANDIDATE_POOL_SIZE)));
+        }
+        Set<Long> jobIds = ids(profile.jobBits());
+        if (!jobIds.isEmpty()) {
+            pool.addAll(userRepository.findUserIdsByJobExperience(jobIds, PageRequest.ofSize(CANDIDATE_POOL_SIZE)));
+        }
+        return pool;
+    }
+
+    /**
+     * userIds 중 점수가 높은 limit 명을 높은 순으로 반환한다.
+     */
+    public List<MatchScore> rank(ProjectMatchProfile profile, Collection<UUID> userIds, int limit) {
+        if (userIds.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        return rankTimer.record(() -> {
+            // 가장 낮은 점수가 머리에 오는 크기 limit 의 힙
+            PriorityQueue<MatchScore> top = new PriorityQueue<>(limit + 1, MatchScore.BEST_FIRST.reversed());
+            List<UUID> ids = new ArrayList<>(userIds);
+            for (int from = 0; from < ids.size(); from += LOAD_BATCH_SIZE) {
+                List<UUID> batch = ids.subList(from, Math.min(from + LOAD_BATCH_SIZE, ids.size()));
+                for (CandidateProfile candidate : loadCandidates(batch)) {
+                    top.offer(projectMatchScorer.score(profile, candidate));
+                    if (top.size() > limit) {
+                        top.poll();
+                    }
+                }
+            }
+            List<MatchScore> ranked = new ArrayList<>(top);
+            ranked.sort(MatchScore.BEST_FIRST);
+            return ranked;
+        });
+    }
+
+    public List<CandidateProfile> loadCandidates(Collection<UUID> userIds) {
+        Map<UUID, List<Long>> skills = new HashMap<>();
+        userRepository.findSkillRowsByUserIdIn(userIds)
+                .forEach(row -> skills.computeIfAbsent(row.userId(), id -> new ArrayList<>()).add(row.referenceId()));
+        Map<UUID, List<CandidateJobRow>> jobs = new HashMap<>();
+        userRepository.findJobRowsByUserIdIn(userIds)
+                .forEach(row -> jobs.computeIfAbsent(row.userId(), id -> new ArrayList<>()).add(row));
+        Map<UUID, Integer> weekDays = new HashMap<>();
+        userRepository.findWeekDaysRowsByUserIdIn(userIds)
+                .forEach(row -> weekDays.merge(row.userId(), 1, Integer::sum));
+
+        List<CandidateProfile> candidates = new ArrayList<>(userIds.size());
+        for (CandidateRow row : userRepository.findCandidateRowsByIdIn(userIds)) {
+            List<CandidateJobRow> userJobs = jobs.getOrDefault(row.userId(), List.of());
+            long[] jobIds = new long[userJobs.size()];
+            int[] yearCnts = new int[userJobs.size()];
+            for (int i = 0; i < userJobs.size(); i++) {
+                jobIds[i] = userJobs.get(i).jobId();
+                yearCnts[i] = userJobs.get(i).yearCnt();
+            }
+            candidates.add(new CandidateProfile(row.userId(),
+                    MatchBits.of(skills.getOrDefault(row.userId(), List.of())),
+                    jobIds, yearCnts, row.waysOfWorkingId(),
+                    weekDays.getOrDefault(row.userId(), 0)));
+        }
+        return candidates;
+    }
+
+    private Set<Long> ids(long[] bits) {
+        Set<Long> ids = new HashSet<>();
+        for (int word = 0; word < bits.length; word++) {
+            long remaining = bits[word];
+            while (remaining != 0) {
+                ids.add(((long) word << 6) + Long.numberOfTrailingZeros(remaining));
+                remaining &= remaining - 1;
+            }
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,13 @@
+package com.waggle.domain.project.match;
+
+import java.util.UUID;
+
+/**
+ * 점수 계산에 쓰는 프로젝트 쪽 조건. 모집 직무/사용 스킬은 비트셋으로 들고 있는다.
+ */
+public record ProjectMatchProfile(UUID projectId, long[] jobBits, long[] skillBits, int skillCount, Long waysOfWorkingId) {
+
+    public boolean isEmpty() {
+        return MatchBits.cardinality(jobBits) == 0 && skillCount == 0;
+    }
+}
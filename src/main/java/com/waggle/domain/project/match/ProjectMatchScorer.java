@@ -0,0 +1,42 @@
+package com.waggle.domain.project.match;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 프로젝트 조건과 사용자 프로필의 적합도를 0~100 으로 계산한다.
+ * <ul>
+ *     <li>직무 45%: 모집 직무와 겹치는 직무 중 가장 높은 값. 직무가 맞으면 절반, 경력(최대 5년)에 비례해 나머지 절반</li>
+ *     <li>스킬 35%: 프로젝트 사용 스킬 중 사용자가 가진 비율</li>
+ *     <li>진행 방식 10%: 선호 진행 방식이 같으면 만점</li>
+ *     <li>참여 가능 요일 10%: 프로젝트에는 일정 정보가 없어 선호 요일 수(최대 5일)로 대신한다</li>
+ * </ul>
+ */
+@Component
+public class ProjectMatchScorer {
+
+    private static final double JOB_WEIGHT = 0.45;
+    private static final double SKILL_WEIGHT = 0.35;
+    private static final double WOW_WEIGHT = 0.10;
+    private static final double SCHEDULE_WEIGHT = 0.10;
+    private static final int YEAR_CAP = 5;
+    private static final int WEEK_DAYS_CAP = 5;
+
+    public MatchScore score(ProjectMatchProfile project, CandidateProfile candidate) {
+        double job = 0;
+        long[] jobIds = candidate.jobIds();
+        for (int i = 0; i < jobIds.length; i++) {
+            if (MatchBits.contains(project.jobBits(), jobIds[i])) {
+                job = Math.max(job, 0.5 + 0.5 * Math.min(candidate.yearCnts()[i], YEAR_CAP) / YEAR_CAP);
+            }
+        }
+
+        int matchedSkillCnt = MatchBits.intersectionCount(project.skillBits(), candidate.skillBits());
+        double skill = project.skillCount() == 0 ? 0 : (double) matchedSkillCnt / project.skillCount();
+
+        double wow = project.waysOfWorkingId() != null && project.waysOfWorkingId().equals(candidate.waysOfWorkingId()) ? 1 : 0;
+        double schedule = (double) Math.min(candidate.weekDaysCount(), WEEK_DAYS_CAP) / WEEK_DAYS_CAP;
+
+        double total = JOB_WEIGHT * job + SKILL_WEIGHT * skill + WOW_WEIGHT * wow + SCHEDULE_WEIGHT * schedule;
+        return new MatchScore(candidate.userId(), (int) Math.round(total * 100), matchedSkillCnt);
+    }
+}
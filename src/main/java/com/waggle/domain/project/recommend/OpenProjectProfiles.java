@@ -0,0 +1,106 @@
+package com.waggle.domain.project.recommend;
+
+import com.waggle.domain.project.facet.ProjectFacetRow;
+import com.waggle.domain.project.match.ProjectMatchEngine;
+import com.waggle.domain.project.match.ProjectMatchProfile;
+import com.waggle.domain.project.repository.ProjectRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 모집 중인 프로젝트의 추천용 프로필을 메모리에 들고 있는다.
+ * 사용자 한 명의 추천 목록을 만들 때마다 프로젝트 조건을 다시 읽지 않도록, 기동 시 한 번 읽고 변경 이벤트로 갱신한다.
+ * 마감은 조회 시 마감일로 거르고 재계산 때 다시 읽어 정리한다.
+ */
+@Slf4j
+@Component
+public class OpenProjectProfiles {
+
+    private static final int LOAD_BATCH_SIZE = 500;
+
+    private final ProjectRepository projectRepository;
+    private final ProjectMatchEngine projectMatchEngine;
+    private final ConcurrentHashMap<UUID, RecommendedProject> projects = new ConcurrentHashMap<>();
+
+    public OpenProjectProfiles(ProjectRepository projectRepository, ProjectMatchEngine projectMatchEngine) {
+        this.projectRepository = projectRepository;
+        this.projectMatchEngine = projectMatchEngine;
+    }
+
+    public List<RecommendedProject> snapshot() {
+        LocalDateTime now = LocalDateTime.now();
+        return projects.values().stream()
+                .filter(project -> project.recruitmentDate().isAfter(now))
+                .toList();
+    }
+
+    /**
+     * MySQL 의 모집 중인 프로젝트로 다시 읽는다.
+     *
+     * @return 읽은 프로젝트 수
+     */
+    public int reload() {
+        Map<UUID, RecommendedProject> fresh = new HashMap<>();
+        LocalDateTime now = LocalDateTime.now();
+        UUID lastId = new UUID(0L, 0L);
+        List<ProjectFacetRow> batch;
+        do {
+            batch = projectRepository.findOpenFacetRowsAfter(lastId, now, PageRequest.ofSize(LOAD_BATCH_SIZE));
+            if (batch.isEmpty()) {
+                break;
+            }
+            fresh.putAll(toProjects(batch));
+            lastId = batch.get(batch.size() - 1).id();
+        } while (batch.size() == LOAD_BATCH_SIZE);
+
+        projects.keySet().retainAll(fresh.keySet());
+        projects.putAll(fresh);
+        return fresh.size();
+    }
+
+    /**
+     * 프로젝트 하나를 다시 읽는다. 없거나 마감되었으면 빼고 empty 를 반환한다.
+     */
+    public Optional<RecommendedProject> refresh(UUID projectId) {
+        Optional<ProjectFacetRow> row = projectRepository.findFacetRowById(projectId)
+                .filter(facetRow -> facetRow.recruitmentDate().isAfter(LocalDateTime.now()));
+        if (row.isEmpty()) {
+            projects.remove(projectId);
+            return Optional.empty();
+        }
+        RecommendedProject project = toProjects(List.of(row.get())).get(projectId);
+        projects.put(projectId, project);
+        return Optional.of(project);
+    }
+
+    public void remove(UUID projectId) {
+        projects.remove(projectId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        long start = System.currentTimeMillis();
+        try {
+            int count = reload();
+            log.info("추천용 프로젝트 프로필 로딩 완료: {}건, {}ms", count, System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            log.error("추천용 프로젝트 프로필 로딩 실패", e);
+        }
+    }
+
+    private Map<UUID, RecommendedProject> toProjects(List<ProjectFacetRow> rows) {
+        Map<UUID, ProjectMatchProfile> profiles = projectMatchEngine.profiles(rows);
+        Map<UUID, RecommendedProject> loaded = new HashMap<>();
+        for (ProjectFacetRow row : rows) {
+            loaded.put(row.id(), new RecommendedProject(profiles.get(row.id()), row.industryId(), row.recruitmentDate()));
+        }
+        return loaded;
+    }
+}
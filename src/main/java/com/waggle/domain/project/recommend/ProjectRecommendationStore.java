@@ -0,0 +1,164 @@
+package com.waggle.domain.project.recommend;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 사용자별 추천 프로젝트 상위 K개를 Redis ZSET(PROJECT_RECOMMEND:{userId})에 들고 있는다.
+ * 조회는 ZREVRANGE 한 번으로 목록 전체(최대 K개)를 읽고, 계산 결과는 여러 사용자를 파이프라인으로 한 번에 쓴다.
+ * 추천할 프로젝트가 없는 사용자도 다시 계산하지 않도록 점수 -1 의 빈 표시를 남긴다.
+ */
+@Slf4j
+@Component
+public class ProjectRecommendationStore {
+
+    private static final String KEY_PREFIX = "PROJECT_RECOMMEND:";
+    private static final String EMPTY_MEMBER = "-";
+
+    // 목록 전체 교체. 지우고 채우는 사이를 조회가 보지 않도록 한 번에 실행한다.
+    private static final byte[] REPLACE_SCRIPT = """
+            redis.call('DEL', KEYS[1])
+            redis.call('ZADD', KEYS[1], -1, ARGV[2])
+            for i = 3, #ARGV, 2 do
+                redis.call('ZADD', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            if #ARGV > 2 then
+                redis.call('ZREM', KEYS[1], ARGV[2])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """.getBytes(StandardCharsets.UTF_8);
+
+    // 프로젝트 하나의 점수 반영. 목록이 있는 사용자에게만 넣고 상위 K개만 남긴다.
+    private static final byte[] OFFER_SCRIPT = """
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            if tonumber(ARGV[2]) <= 0 then
+                redis.call('ZREM', KEYS[1], ARGV[1])
+                return 1
+            end
+            redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+            redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(tonumber(ARGV[3]) + 1))
+            return 1
+            """.getBytes(StandardCharsets.UTF_8);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final int topK;
+    private final Duration ttl;
+
+    public ProjectRecommendationStore(RedisTemplate<String, String> redisTemplate,
+                                      @Value("${user.recommend.top-k}") int topK,
+                                      @Value("${user.recommend.ttl}") Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.topK = topK;
+        this.ttl = ttl;
+    }
+
+    public int getTopK() {
+        return topK;
+    }
+
+    /**
+     * 사용자별 목록을 통째로 바꾼다. entries 는 점수 높은 순일 필요는 없다.
+     */
+    public void replace(Map<UUID, List<Entry>> recommendations) {
+        if (recommendations.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                recommendations.forEach((userId, entries) -> {
+                    List<byte[]> keysAndArgs = new ArrayList<>(3 + entries.size() * 2);
+                    keysAndArgs.add(bytes(key(userId)));
+                    keysAndArgs.add(bytes(String.valueOf(ttl.toSeconds())));
+                    keysAndArgs.add(bytes(EMPTY_MEMBER));
+                    entries.forEach(entry -> {
+                        keysAndArgs.add(bytes(String.valueOf(entry.score())));
+                        keysAndArgs.add(bytes(entry.projectId().toString()));
+                    });
+                    eval(connection, REPLACE_SCRIPT, keysAndArgs);
+                });
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("추천 목록 저장 실패: {}명", recommendations.size(), e);
+        }
+    }
+
+    /**
+     * 프로젝트 하나의 사용자별 점수를 반영한다. 점수가 0 이하이면 목록에서 뺀다.
+     */
+    public void offer(UUID projectId, Map<UUID, Integer> scores) {
+        if (scores.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                scores.forEach((userId, score) -> eval(connection, OFFER_SCRIPT, List.of(
+                        bytes(key(userId)),
+                        bytes(projectId.toString()),
+                        bytes(String.valueOf(score)),
+                        bytes(String.valueOf(topK)))));
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("추천 점수 반영 실패: {} {}명", projectId, scores.size(), e);
+        }
+    }
+
+    /**
+     * 목록 전체를 Entry.BEST_FIRST 순으로 반환한다. 아직 계산된 적 없는(또는 만료된) 사용자면 empty.
+     */
+    public Optional<List<Entry>> entries(UUID userId) {
+        Set<ZSetOperations.TypedTuple<String>> tuples = redisTemplate.opsForZSet().reverseRangeWithScores(key(userId), 0, -1);
+        if (tuples == null || tuples.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(tuples.stream()
+                .filter(tuple -> !EMPTY_MEMBER.equals(tuple.getValue()))
+                .map(tuple -> new Entry(UUID.fromString(tuple.getValue()), tuple.getScore().intValue()))
+                .sorted(Entry.BEST_FIRST)
+                .toList());
+    }
+
+    public void remove(UUID userId, Collection<UUID> projectIds) {
+        if (projectIds.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.opsForZSet().remove(key(userId), projectIds.stream().map(UUID::toString).toArray());
+        } catch (RuntimeException e) {
+            log.warn("추천 목록 정리 실패: {}", userId, e);
+        }
+    }
+
+    private void eval(RedisConnection connection, byte[] script, List<byte[]> keysAndArgs) {
+        connection.scriptingCommands().eval(script, ReturnType.INTEGER, 1, keysAndArgs.toArray(byte[][]::new));
+    }
+
+    private String key(UUID userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    private byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public record Entry(UUID projectId, int score) {
+
+        // 점수 높은 순, 같으면 id 문자열 역순. 커서 비교도 이 순서를 따른다.
+        public static final Comparator<Entry> BEST_FIRST = Comparator.comparingInt(Entry::score).reversed()
+                .thenComparing(entry -> entry.projectId().toString(), Comparator.reverseOrder());
+    }
+}
@@ -0,0 +1,293 @@
+package com.waggle.domain.project.recommend;
+
+import com.waggle.config.AsyncConfig;
+import com.waggle.domain.project.event.ProjectChangedEvent;
+import com.waggle.domain.project.event.ProjectCreatedEvent;
+import com.waggle.domain.project.event.ProjectDeletedEvent;
+import com.waggle.domain.project.event.ProjectUpdatedEvent;
+import com.waggle.domain.project.match.CandidateProfile;
+import com.waggle.domain.project.match.CandidateReferenceRow;
+import com.waggle.domain.project.match.MatchBits;
+import com.waggle.domain.project.match.ProjectMatchEngine;
+import com.waggle.domain.project.match.ProjectMatchScorer;
+import com.waggle.domain.user.event.UserProfileUpdatedEvent;
+import com.waggle.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 사용자별 "추천 프로젝트" 목록을 미리 계산해 ProjectRecommendationStore 에 저장한다.
+ * <p>
+ * 점수는 ProjectMatchScorer 의 적합도(직무/스킬/진행 방식/요일)를 85%, 관심 산업 일치를 15% 로 더한다.
+ * 조회 시에는 계산하지 않고 저장된 목록만 읽으며, 다음 경우에 다시 계산한다.
+ * <ul>
+ *     <li>프로필 수정: 그 사용자의 목록 전체</li>
+ *     <li>프로젝트 생성/수정: 스킬/직무가 겹치는 후보군(ProjectMatchEngine#candidatePool)에게 그 프로젝트 점수만</li>
+ *     <li>매일 재계산: 전체 사용자를 ForkJoinPool 로 나눠 목록 전체</li>
+ * </ul>
+ * 목록이 없는(처음이거나 만료된) 사용자는 첫 조회 때 한 번 계산한다.
+ */
+@Slf4j
+@Component
+public class ProjectRecommender {
+
+    private static final double MATCH_WEIGHT = 0.85;
+    private static final int INDUSTRY_POINTS = 15;
+    // 재계산 시 한 작업이 맡는 사용자 수. 이 단위로 DB 에서 읽고 Redis 에 쓴다.
+    private static final int LEAF_SIZE = 500;
+    private static final int USER_ID_BATCH_SIZE = 5000;
+    private static final long[] EMPTY_BITS = new long[0];
+
+    private final UserRepository userRepository;
+    private final ProjectMatchEngine projectMatchEngine;
+    private final ProjectMatchScorer projectMatchScorer;
+    private final OpenProjectProfiles openProjectProfiles;
+    private final ProjectRecommendationStore store;
+    private final int rebuildParallelism;
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private final Timer rebuildTimer;
+    private final Counter rebuiltUsersCounter;
+    private final Counter errorCounter;
+
+    public ProjectRecommender(UserRepository userRepository,
+                              ProjectMatchEngine projectMatchEngine,
+                              ProjectMatchScorer projectMatchScorer,
+                              OpenProjectProfiles openProjectProfiles,
+                              ProjectRecommendationStore store,
+                              MeterRegistry meterRegistry,
+                              @Value("${user.recommend.rebuild-parallelism}") int rebuildParallelism) {
+        this.userRepository = userRepository;
+        this.projectMatchEngine = projectMatchEngine;
+        this.projectMatchScorer = projectMatchScorer;
+        this.openProjectProfiles = openProjectProfiles;
+        this.store = store;
+        this.rebuildParallelism = rebuildParallelism;
+        this.rebuildTimer = meterRegistry.timer("project.recommend.rebuild");
+        this.rebuiltUsersCounter = meterRegistry.counter("project.recommend.rebuild.users");
+        this.errorCounter = meterRegistry.counter("project.recommend.errors");
+    }
+
+    /**
+     * 저장된 추천 목록 중 after 다음부터를 추천순으로 반환한다. 마감/삭제된 프로젝트가 섞여 있을 수 있다.
+     *
+     * @param after 이전 페이지의 마지막 항목, 첫 페이지면 null
+     */
+    public List<ProjectRecommendationStore.Entry> recommendations(UUID userId, ProjectRecommendationStore.Entry after) {
+        List<ProjectRecommendationStore.Entry> entries = store.entries(userId).orElseGet(() -> {
+            refreshUsers(List.of(userId));
+            return store.entries(userId).orElse(List.of());
+        });
+        if (after == null) {
+            return entries;
+        }
+        return entries.stream()
+                .filter(entry -> ProjectRecommendationStore.Entry.BEST_FIRST.compare(entry, after) > 0)
+                .toList();
+    }
+
+    public void discard(UUID userId, Collection<UUID> projectIds) {
+        store.remove(userId, projectIds);
+    }
+
+    public void refreshUsers(List<UUID> userIds) {
+        store.replace(compute(userIds, openProjectProfiles.snapshot()));
+    }
+
+    @Async(AsyncConfig.PROJECT_EVENT_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserProfileUpdated(UserProfileUpdatedEvent event) {
+        try {
+            refreshUsers(List.of(event.userId()));
+        } catch (RuntimeException e) {
+            log.warn("추천 목록 갱신 실패: {}", event.userId(), e);
+            errorCounter.increment();
+        }
+    }
+
+    @Async(AsyncConfig.PROJECT_EVENT_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProjectCreated(ProjectCreatedEvent event) {
+        offer(event.projectId());
+    }
+
+    @Async(AsyncConfig.PROJECT_EVENT_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProjectUpdated(ProjectUpdatedEvent event) {
+        offer(event.projectId());
+    }
+
+    // 멤버 변경/마감. 조건은 그대로이므로 프로필만 다시 읽고(마감이면 빠짐) 점수는 다시 넣지 않는다.
+    @Async(AsyncConfig.PROJECT_EVENT_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        try {
+            openProjectProfiles.refresh(event.projectId());
+        } catch (RuntimeException e) {
+            log.warn("추천용 프로젝트 프로필 갱신 실패: {}", event.projectId(), e);
+        }
+    }
+
+    @Async(AsyncConfig.PROJECT_EVENT_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProjectDeleted(ProjectDeletedEvent event) {
+        openProjectProfiles.remove(event.projectId());
+    }
+
+    /**
+     * 전체 사용자의 목록을 다시 계산한다. 사용자 id 를 LEAF_SIZE 단위로 나눠 ForkJoinPool 에서 병렬로 처리한다.
+     *
+     * @return 처리한 사용자 수
+     */
+    @Scheduled(cron = "${user.recommend.rebuild-cron}")
+    public int rebuild() {
+        if (!rebuildLock.tryLock()) {
+            log.info("추천 목록을 이미 재계산하는 중입니다.");
+            return 0;
+        }
+        try {
+            return rebuildTimer.record(() -> {
+                openProjectProfiles.reload();
+                List<RecommendedProject> projects = openProjectProfiles.snapshot();
+                List<UUID> userIds = allUserIds();
+
+                ForkJoinPool pool = new ForkJoinPool(rebuildParallelism);
+                try {
+                    pool.invoke(new RebuildTask(userIds, 0, userIds.size(), projects));
+                } finally {
+                    pool.shutdown();
+                }
+                log.info("추천 목록 재계산 완료: 사용자 {}명, 프로젝트 {}건", userIds.size(), projects.size());
+                return userIds.size();
+            });
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    // 새로 생기거나 바뀐 프로젝트의 점수를 후보군에게만 넣는다. 후보군 밖의 사용자는 다음 재계산 때 반영된다.
+    private void offer(UUID projectId) {
+        try {
+            Optional<RecommendedProject> project = openProjectProfiles.refresh(projectId);
+            if (project.isEmpty()) {
+                return;
+            }
+            List<UUID> pool = new ArrayList<>(projectMatchEngine.candidatePool(project.get().profile()));
+            for (int from = 0; from < pool.size(); from += LEAF_SIZE) {
+                List<UUID> batch = pool.subList(from, Math.min(from + LEAF_SIZE, pool.size()));
+                Map<UUID, long[]> industries = industryBits(batch);
+                Map<UUID, Integer> scores = new HashMap<>();
+                for (CandidateProfile candidate : projectMatchEngine.loadCandidates(batch)) {
+                    scores.put(candidate.userId(), score(project.get(), candidate,
+                            industries.getOrDefault(candidate.userId(), EMPTY_BITS)));
+                }
+                store.offer(projectId, scores);
+            }
+        } catch (RuntimeException e) {
+            log.warn("추천 점수 반영 실패: {}", projectId, e);
+            errorCounter.increment();
+        }
+    }
+
+    private Map<UUID, List<ProjectRecommendationStore.Entry>> compute(List<UUID> userIds, List<RecommendedProject> projects) {
+        Map<UUID, long[]> industries = industryBits(userIds);
+        Map<UUID, List<ProjectRecommendationStore.Entry>> recommendations = new HashMap<>();
+        int topK = store.getTopK();
+        Comparator<ProjectRecommendationStore.Entry> byScore = Comparator.comparingInt(ProjectRecommendationStore.Entry::score);
+
+        for (CandidateProfile candidate : projectMatchEngine.loadCandidates(userIds)) {
+            long[] industryBits = industries.getOrDefault(candidate.userId(), EMPTY_BITS);
+            // 가장 낮은 점수가 머리에 오는 크기 topK 의 힙
+            PriorityQueue<ProjectRecommendationStore.Entry> top = new PriorityQueue<>(topK + 1, byScore);
+            for (RecommendedProject project : projects) {
+                int score = score(project, candidate, industryBits);
+                if (score <= 0) {
+                    continue;
+                }
+                top.offer(new ProjectRecommendationStore.Entry(project.profile().projectId(), score));
+                if (top.size() > topK) {
+                    top.poll();
+                }
+            }
+            recommendations.put(candidate.userId(), new ArrayList<>(top));
+        }
+        return recommendations;
+    }
+
+    private int score(RecommendedProject project, CandidateProfile candidate, long[] industryBits) {
+        int match = projectMatchScorer.score(project.profile(), candidate).score();
+        boolean industry = project.industryId() != null && MatchBits.contains(industryBits, project.industryId());
+        return (int) Math.round(MATCH_WEIGHT * match) + (industry ? INDUSTRY_POINTS : 0);
+    }
+
+    private Map<UUID, long[]> industryBits(Collection<UUID> userIds) {
+        Map<UUID, List<Long>> industries = new HashMap<>();
+        for (CandidateReferenceRow row : userRepository.findIndustryRowsByUserIdIn(userIds)) {
+            industries.computeIfAbsent(row.userId(), id -> new ArrayList<>()).add(row.referenceId());
+        }
+        Map<UUID, long[]> bits = new HashMap<>();
+        industries.forEach((userId, ids) -> bits.put(userId, MatchBits.of(ids)));
+        return bits;
+    }
+
+    private List<UUID> allUserIds() {
+        List<UUID> userIds = new ArrayList<>();
+        UUID lastId = new UUID(0L, 0L);
+        List<UUID> batch;
+        do {
+            batch = userRepository.findIdsAfter(lastId, PageRequest.ofSize(USER_ID_BATCH_SIZE));
+            if (batch.isEmpty()) {
+                break;
+            }
+            userIds.addAll(batch);
+            lastId = batch.get(batch.size() - 1);
+        } while (batch.size() == USER_ID_BATCH_SIZE);
+        return userIds;
+    }
+
+    // [from, to) 구간을 LEAF_SIZE 이하가 될 때까지 반으로 나눈다. 한 구간이 실패해도 나머지는 계속한다.
+    private final class RebuildTask extends RecursiveAction {
+
+        private final List<UUID> userIds;
+        private final int from;
+        private final int to;
+        private final List<RecommendedProject> projects;
+
+        private RebuildTask(List<UUID> userIds, int from, int to, List<RecommendedProject> projects) {
+            this.userIds = userIds;
+            this.from = from;
+            this.to = to;
+            this.projects = projects;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= LEAF_SIZE) {
+                try {
+                    store.replace(ProjectRecommender.this.compute(userIds.subList(from, to), projects));
+                    rebuiltUsersCounter.increment(to - from);
+                } catch (RuntimeException e) {
+                    log.warn("추천 목록 재계산 실패: {}~{}", from, to, e);
+                    errorCounter.increment();
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new RebuildTask(userIds, from, mid, projects), new RebuildTask(userIds, mid, to, projects));
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.waggle.domain.project.recommend;
+
+import com.waggle.domain.project.match.ProjectMatchProfile;
+
+import java.time.LocalDateTime;
+
+/**
+ * 추천 점수 계산에 쓰는 모집 중인 프로젝트. 적합도 프로필에 산업 분야와 마감일을 더한다.
+ */
+public record RecommendedProject(ProjectMatchProfile profile, Long industryId, LocalDateTime recruitmentDate) {
+}
@@ -0,0 +1,33 @@
+package com.waggle.domain.project.repository;
+
+import com.waggle.domain.project.entity.ProjectApplicant;
+import com.waggle.domain.user.entity.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ProjectApplicantRepository extends JpaRepository<ProjectApplicant, UUID> {
+
+    boolean existsByProjectIdAndUserId(UUID projectId, UUID userId);
+
+    // 지원자 목록: 프로젝트를 거치지 않고 사용자만 조회
+    @Query("SELECT a.user FROM ProjectApplicant a WHERE a.project.id = :projectId")
+    List<User> findUsersByProjectId(UUID projectId);
+
+    @Query("SELECT a.user.id FROM ProjectApplicant a WHERE a.project.id = :projectId")
+    List<UUID> findUserIdsByProjectId(UUID projectId);
+
+    @Modifying
+    @Query("DELETE FROM ProjectApplicant a WHERE a.project.id = :projectId AND a.user.id = :userId")
+    int deleteByProjectIdAndUserId(UUID projectId, UUID userId);
+
+    @Modifying
+    @Query("DELETE FROM ProjectApplicant a WHERE a.project.id = :projectId AND a.user.id IN :userIds")
+    int deleteByProjectIdAndUserIdIn(UUID projectId, Collection<UUID> userIds);
+}
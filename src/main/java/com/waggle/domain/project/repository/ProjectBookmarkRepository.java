@@ -0,0 +1,24 @@
+package com.waggle.domain.project.repository;
+
+import com.waggle.domain.project.entity.ProjectBookmark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface ProjectBookmarkRepository extends JpaRepository<ProjectBookmark, UUID> {
+
+    // (user_id, project_id) 유니크 키에 걸리면 아무것도 바꾸지 않는다. INSERT IGNORE 와 달리 외래 키 오류는 그대로 난다.
+    // 드라이버가 found rows 를 돌려주므로 반환값으로는 실제 추가 여부를 알 수 없다. 넣은 id 가 있는지로 확인한다.
+    @Modifying
+    @Query(value = "INSERT INTO project_bookmark (id, project_id, user_id) VALUES (:id, :projectId, :userId) "
+            + "ON DUPLICATE KEY UPDATE id = id", nativeQuery = true)
+    void insertIfAbsent(UUID id, UUID projectId, UUID userId);
+
+    @Modifying
+    @Query("DELETE FROM ProjectBookmark b WHERE b.project.id = :projectId AND b.user.id = :userId")
+    int deleteByProjectIdAndUserId(UUID projectId, UUID userId);
+}
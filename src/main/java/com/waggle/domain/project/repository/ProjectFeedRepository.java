@@ -0,0 +1,16 @@
+package com.waggle.domain.project.repository;
+
+import com.waggle.domain.project.dto.ProjectFeedCondition;
+import com.waggle.domain.project.dto.ProjectFeedCursor;
+
+import java.util.List;
+
+public interface ProjectFeedRepository {
+
+    /**
+     * 필터와 커서 조건을 만족하는 프로젝트의 (created_at, id) 를 (created_at DESC, id DESC) 순으로 최대 limit개 조회한다.
+     * 엔티티를 로딩하지 않으므로 필터에서 걸러지는 행의 연관 컬렉션은 읽지 않는다.
+     * 다음 커서는 이 값으로 만들어, 로딩 사이에 삭제된 행이 있어도 이어서 조회할 수 있다.
+     */
+    List<ProjectFeedCursor> findFeedKeys(ProjectFeedCondition condition, int limit);
+}
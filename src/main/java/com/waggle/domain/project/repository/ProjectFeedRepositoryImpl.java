@@ -0,0 +1,79 @@
+package com.waggle.domain.project.repository;
+
+import com.waggle.domain.project.dto.ProjectFeedCondition;
+import com.waggle.domain.project.dto.ProjectFeedCursor;
+import com.waggle.domain.project.entity.Project;
+import com.waggle.domain.project.entity.ProjectRecruitmentJob;
+import com.waggle.domain.project.entity.ProjectSkill;
+import com.waggle.domain.project.entity.RecruitmentStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public class ProjectFeedRepositoryImpl implements ProjectFeedRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ProjectFeedCursor> findFeedKeys(ProjectFeedCondition condition, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ProjectFeedCursor> query = cb.createQuery(ProjectFeedCursor.class);
+        Root<Project> project = query.from(Project.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (condition.getIndustryId() != null) {
+            predicates.add(cb.equal(project.get("industry").get("id"), condition.getIndustryId()));
+        }
+        if (condition.getWayOfWorkingId() != null) {
+            predicates.add(cb.equal(project.get("waysOfWorking").get("id"), condition.getWayOfWorkingId()));
+        }
+        if (condition.getDurationOfWorkingId() != null) {
+            predicates.add(cb.equal(project.get("durationOfWorking").get("id"), condition.getDurationOfWorkingId()));
+        }
+        if (condition.isRecruiting()) {
+            // status 로 인덱스 범위를 좁히고, 마감 배치가 돌기 전 잠깐 남은 만료 글은 날짜로 거른다.
+            predicates.add(cb.equal(project.get("status"), RecruitmentStatus.RECRUITING));
+            predicates.add(cb.greaterThan(project.get("recruitmentDate"), LocalDateTime.now()));
+        }
+        if (condition.getSkillIds() != null && !condition.getSkillIds().isEmpty()) {
+            Subquery<Integer> skill = query.subquery(Integer.class);
+            Root<ProjectSkill> projectSkill = skill.from(ProjectSkill.class);
+            skill.select(cb.literal(1)).where(
+                    cb.equal(projectSkill.get("project"), project),
+                    projectSkill.get("skill").get("id").in(condition.getSkillIds()));
+            predicates.add(cb.exists(skill));
+        }
+        if (condition.getJobIds() != null && !condition.getJobIds().isEmpty()) {
+            Subquery<Integer> job = query.subquery(Integer.class);
+            Root<ProjectRecruitmentJob> recruitmentJob = job.from(ProjectRecruitmentJob.class);
+            job.select(cb.literal(1)).where(
+                    cb.equal(recruitmentJob.get("project"), project),
+                    recruitmentJob.get("job").get("id").in(condition.getJobIds()));
+            predicates.add(cb.exists(job));
+        }
+
+        // 키셋: (created_at, id) < (cursor.created_at, cursor.id)
+        ProjectFeedCursor cursor = condition.getCursor();
+        if (cursor != null) {
+            Path<LocalDateTime> createdAt = project.get("createdAt");
+            Path<UUID> id = project.get("id");
+            predicates.add(cb.or(
+                    cb.lessThan(createdAt, cursor.createdAt()),
+                    cb.and(cb.equal(createdAt, cursor.createdAt()), cb.lessThan(id, cursor.id()))));
+        }
+
+        query.select(cb.construct(ProjectFeedCursor.class, project.get("createdAt"), project.get("id")))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.desc(project.get("createdAt")), cb.desc(project.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
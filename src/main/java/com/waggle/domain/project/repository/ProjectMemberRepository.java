@@ -0,0 +1,58 @@
+package com.waggle.domain.project.repository;
+
+import com.waggle.domain.project.entity.ProjectMember;
+import com.waggle.domain.user.entity.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ProjectMemberRepository extends JpaRepository<ProjectMember, UUID> {
+
+    boolean existsByProjectIdAndUserId(UUID projectId, UUID userId);
+
+    // 참여자 목록: 프로젝트를 거치지 않고 사용자만 조회
+    @Query("SELECT m.user FROM ProjectMember m WHERE m.project.id = :projectId")
+    List<User> findUsersByProjectId(UUID projectId);
+
+    @Query("SELECT m.user.id FROM ProjectMember m WHERE m.project.id = :projectId")
+    List<UUID> findUserIdsByProjectId(UUID projectId);
+
+    // 지원 내역을 그대로 멤버로 옮긴다. 지원 내역이 없으면 0을 반환한다.
+    @Modifying
+    @Query(value = "INSERT INTO project_member (id, project_id, user_id, is_leader, joined_at) " +
+            "SELECT :id, a.project_id, a.user_id, false, :joinedAt FROM project_applicant a " +
+            "WHERE a.project_id = :projectId AND a.user_id = :userId", nativeQuery = true)
+    int insertFromApplicant(UUID id, UUID projectId, UUID userId, LocalDateTime joinedAt);
+
+    // 여러 지원자를 한 문장으로 옮긴다. 옮겨진 행 수를 반환한다.
+    @Modifying
+    @Query(value = "INSERT INTO project_member (id, project_id, user_id, is_leader, joined_at) " +
+            "SELECT UUID_TO_BIN(UUID()), a.project_id, a.user_id, false, :joinedAt FROM project_applicant a " +
+            "WHERE a.project_id = :projectId AND a.user_id IN (:userIds)", nativeQuery = true)
+    int insertFromApplicants(UUID projectId, Collection<UUID> userIds, LocalDateTime joinedAt);
+
+    @Modifying
+    @Query("DELETE FROM ProjectMember m WHERE m.project.id = :projectId AND m.user.id = :userId")
+    int deleteByProjectIdAndUserId(UUID projectId, UUID userId);
+
+    // 리더 행은 지우지 않는다. 확인 뒤에 리더를 넘겨받았더라도 projects.leader_id 가 멤버가 아닌 사용자를 가리키지 않게 한다.
+    @Modifying
+    @Query("DELETE FROM ProjectMember m WHERE m.project.id = :projectId AND m.user.id = :userId AND m.isLeader = false")
+    int deleteNonLeaderByProjectIdAndUserId(UUID projectId, UUID userId);
+
+    // 현재 리더인 경우에만 내려놓는다. 동시에 위임하면 먼저 온 요청만 1을 받는다.
+    @Modifying
+    @Query("UPDATE ProjectMember m SET m.isLeader = false WHERE m.project.id = :projectId AND m.user.id = :userId AND m.isLeader = true")
+    int resignLeader(UUID projectId, UUID userId);
+
+    @Modifying
+    @Query("UPDATE ProjectMember m SET m.isLeader = true WHERE m.project.id = :projectId AND m.user.id = :userId")
+    int assignLeader(UUID projectId, UUID userId);
+}
@@ -1,11 +1,122 @@
 package com.waggle.domain.project.repository;
 
 import com.waggle.domain.project.entity.Project;
+import com.waggle.domain.project.facet.ProjectFacetRow;
+import com.waggle.domain.project.facet.ProjectReferenceRow;
+import com.waggle.domain.project.search.ProjectSearchDocument;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.EntityGraph.EntityGraphType;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface ProjectRepository extends JpaRepository<Project, UUID> {
+public interface ProjectRepository extends JpaRepository<Project, UUID>, ProjectFeedRepository {
+
+    // 상세 조회: 모집 직무, 멤버 직무, 스킬
+    @EntityGraph(value = "Project.detail", type = EntityGraphType.LOAD)
+    @Query("SELECT p FROM Project p WHERE p.id = :id")
+    Optional<Project> findDetailById(UUID id);
+
+    // 목록 조회: 모집 직무만 join 한다. 멤버 직무/스킬은 배치 조회로 읽으므로 트랜잭션 안에서 초기화해야 한다.
+    @EntityGraph(value = "Project.list", type = EntityGraphType.LOAD)
+    @Query("SELECT p FROM Project p WHERE p.id IN :ids")
+    List<Project> findAllDetailByIdIn(Collection<UUID> ids);
+
+    // 수정용: 커밋 시 version 을 올려 동시 수정을 충돌로 감지한다.
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @EntityGraph(value = "Project.detail", type = EntityGraphType.LOAD)
+    @Query("SELECT p FROM Project p WHERE p.id = :id")
+    Optional<Project> findDetailForWriteById(UUID id);
+
+    // 리더 확인: PK 로 leader_id 만 조회
+    @Query("SELECT p.leaderId FROM Project p WHERE p.id = :id")
+    Optional<UUID> findLeaderIdById(UUID id);
+
+    // 현재 리더가 맞을 때만 바꾼다. 동시에 위임하면 먼저 온 요청만 1을 받는다.
+    @Modifying
+    @Query(value = "UPDATE projects SET leader_id = :newLeaderId WHERE id = :id AND leader_id = :leaderId", nativeQuery = true)
+    int changeLeader(UUID id, UUID leaderId, UUID newLeaderId);
+
+    // leader_id 가 없는 기존 행을 project_member 의 리더로 채운다.
+    @Modifying
+    @Query(value = "UPDATE projects p JOIN project_member m ON m.project_id = p.id AND m.is_leader = true " +
+            "SET p.leader_id = m.user_id " +
+            "WHERE p.id IN (:ids) AND p.leader_id IS NULL", nativeQuery = true)
+    int backfillLeaderId(Collection<UUID> ids);
+
+    // 사용자별 프로젝트 목록 (참여/지원/북마크)
+    @EntityGraph(value = "Project.list", type = EntityGraphType.LOAD)
+    @Query("SELECT p FROM Project p JOIN ProjectMember m ON m.project = p WHERE m.user.id = :userId ORDER BY p.createdAt DESC")
+    List<Project> findAllDetailByMemberUserId(UUID userId);
+
+    @EntityGraph(value = "Project.list", type = EntityGraphType.LOAD)
+    @Query("SELECT p FROM Project p JOIN ProjectApplicant a ON a.project = p WHERE a.user.id = :userId ORDER BY a.appliedAt DESC")
+    List<Project> findAllDetailByApplicantUserId(UUID userId);
+
+    @EntityGraph(value = "Project.list", type = EntityGraphType.LOAD)
+    @Query("SELECT p FROM Project p JOIN ProjectBookmark b ON b.project = p WHERE b.user.id = :userId ORDER BY p.createdAt DESC")
+    List<Project> findAllDetailByBookmarkUserId(UUID userId);
+
+    // 검색 색인용: 제목/내용만 조회, 재색인은 id 키셋으로 나눠 읽는다.
+    @Query("SELECT new com.waggle.domain.project.search.ProjectSearchDocument(p.id, p.title, p.detail) FROM Project p WHERE p.id = :id")
+    Optional<ProjectSearchDocument> findSearchDocumentById(UUID id);
+
+    @Query("SELECT new com.waggle.domain.project.search.ProjectSearchDocument(p.id, p.title, p.detail) FROM Project p WHERE p.id > :lastId ORDER BY p.id")
+    List<ProjectSearchDocument> findSearchDocumentsAfter(UUID lastId, Pageable pageable);
+
+    // 패싯 색인용: 참조 데이터 id만 조회
+    @Query("SELECT new com.waggle.domain.project.facet.ProjectFacetRow(p.id, i.id, w.id, d.id, p.recruitmentDate) " +
+            "FROM Project p LEFT JOIN p.industry i LEFT JOIN p.waysOfWorking w LEFT JOIN p.durationOfWorking d " +
+            "WHERE p.id = :id")
+    Optional<ProjectFacetRow> findFacetRowById(UUID id);
+
+    @Query("SELECT new com.waggle.domain.project.facet.ProjectFacetRow(p.id, i.id, w.id, d.id, p.recruitmentDate) " +
+            "FROM Project p LEFT JOIN p.industry i LEFT JOIN p.waysOfWorking w LEFT JOIN p.durationOfWorking d " +
+            "WHERE p.id > :lastId AND p.recruitmentDate > :now ORDER BY p.id")
+    List<ProjectFacetRow> findOpenFacetRowsAfter(UUID lastId, LocalDateTime now, Pageable pageable);
+
+    @Query("SELECT new com.waggle.domain.project.facet.ProjectReferenceRow(s.project.id, s.skill.id) FROM ProjectSkill s WHERE s.project.id IN :projectIds")
+    List<ProjectReferenceRow> findSkillRowsByProjectIdIn(Collection<UUID> projectIds);
+
+    @Query("SELECT new com.waggle.domain.project.facet.ProjectReferenceRow(j.project.id, j.job.id) FROM ProjectRecruitmentJob j WHERE j.project.id IN :projectIds")
+    List<ProjectReferenceRow> findRecruitmentJobRowsByProjectIdIn(Collection<UUID> projectIds);
+
+    // 북마크 수는 읽고 쓰지 않고 DB 에서 바로 증감한다.
+    @Modifying
+    @Query(value = "UPDATE projects SET bookmark_cnt = bookmark_cnt + :delta WHERE id = :id", nativeQuery = true)
+    int addBookmarkCnt(UUID id, int delta);
+
+    @Query("SELECT p.id FROM Project p WHERE p.id > :lastId ORDER BY p.id")
+    List<UUID> findIdsAfter(UUID lastId, Pageable pageable);
+
+    // 북마크 수를 project_bookmark 기준으로 다시 센다. 실제로 값이 바뀐 행 수를 반환한다.
+    @Modifying
+    @Query(value = "UPDATE projects p " +
+            "LEFT JOIN (SELECT b.project_id, COUNT(*) AS cnt FROM project_bookmark b WHERE b.project_id IN (:ids) GROUP BY b.project_id) c " +
+            "ON c.project_id = p.id " +
+            "SET p.bookmark_cnt = COALESCE(c.cnt, 0) " +
+            "WHERE p.id IN (:ids) AND p.bookmark_cnt <> COALESCE(c.cnt, 0)", nativeQuery = true)
+    int reconcileBookmarkCnt(Collection<UUID> ids);
+
+    // 마감 처리 대상: (status, recruitment_date) 인덱스 범위 조회
+    @Query("SELECT p.id FROM Project p WHERE p.status = com.waggle.domain.project.entity.RecruitmentStatus.RECRUITING AND p.recruitmentDate <= :now")
+    List<UUID> findExpiredRecruitingIds(LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query(value = "UPDATE projects SET status = 'CLOSED' WHERE id IN (:ids) AND status = 'RECRUITING' AND recruitment_date <= :now", nativeQuery = true)
+    int closeRecruitment(Collection<UUID> ids, LocalDateTime now);
+
+    @Query("SELECT p.id FROM Project p WHERE p.id IN :ids AND p.recruitmentDate > :now")
+    List<UUID> findOpenIdsByIdIn(Collection<UUID> ids, LocalDateTime now);
 }
@@ -0,0 +1,9 @@
+package com.waggle.domain.project.search;
+
+import java.util.UUID;
+
+/**
+ * 검색 색인에 필요한 프로젝트 컬럼만 담은 projection.
+ */
+public record ProjectSearchDocument(UUID id, String title, String detail) {
+}
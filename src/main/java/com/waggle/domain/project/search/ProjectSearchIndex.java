@@ -0,0 +1,276 @@
+package com.waggle.domain.project.search;
+
+import com.waggle.config.AsyncConfig;
+import com.waggle.domain.project.event.ProjectCreatedEvent;
+import com.waggle.domain.project.event.ProjectDeletedEvent;
+import com.waggle.domain.project.event.ProjectUpdatedEvent;
+import com.waggle.domain.project.repository.ProjectRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.uhighlight.DefaultPassageFormatter;
+import org.apache.lucene.search.uhighlight.UnifiedHighlighter;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 프로젝트 제목/내용에 대한 인프로세스 Lucene 색인.
+ * 한국어 형태소 분석(Nori)으로 색인하고, 커밋된 변경을 이벤트로 받아 거의 실시간으로 반영한다.
+ * 색인은 MySQL 로부터 언제든 다시 만들 수 있으므로 기동 시마다 새로 만든다.
+ */
+@Slf4j
+@Component
+public class ProjectSearchIndex {
+
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_TITLE = "title";
+    private static final String FIELD_DETAIL = "detail";
+    private static final String FIELD_GENERATION = "generation";
+    private static final String[] SEARCH_FIELDS = {FIELD_TITLE, FIELD_DETAIL};
+    private static final Map<String, Float> FIELD_BOOSTS = Map.of(FIELD_TITLE, 2.0f, FIELD_DETAIL, 1.0f);
+    private static final int[] MAX_PASSAGES = {1, 2};
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final ProjectRepository projectRepository;
+    private final Analyzer analyzer;
+    private final Directory directory;
+    private final IndexWriter indexWriter;
+    private final SearcherManager searcherManager;
+
+    // 재색인 세대. 재색인이 끝나면 이전 세대 문서(그 사이 삭제된 프로젝트)를 지운다.
+    private final AtomicLong generation = new AtomicLong();
+    private final ReadWriteLock generationLock = new ReentrantReadWriteLock();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    public ProjectSearchIndex(ProjectRepository projectRepository,
+                              @Value("${project.search.index-path}") Path indexPath) throws IOException {
+        this.projectRepository = projectRepository;
+        this.analyzer = new KoreanAnalyzer();
+        this.directory = FSDirectory.open(indexPath);
+        this.indexWriter = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE));
+        this.searcherManager = new SearcherManager(indexWriter, null);
+    }
+
+    public ProjectSearchResult search(String keyword, int page, int size) {
+        Query query = parse(keyword);
+        IndexSearcher searcher = acquire();
+        try {
+            TopDocs topDocs = searcher.search(query, (page + 1) * size);
+            ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+            ScoreDoc[] pageDocs = Arrays.copyOfRange(scoreDocs, Math.min(page * size, scoreDocs.length), scoreDocs.length);
+
+            Map<String, String[]> highlights = UnifiedHighlighter.builder(searcher, analyzer)
+                    .withFormatter(new DefaultPassageFormatter("<em>", "</em>", "... ", true))
+                    .build()
+                    .highlightFields(SEARCH_FIELDS, query, new TopDocs(topDocs.totalHits, pageDocs), MAX_PASSAGES);
+
+            StoredFields storedFields = searcher.storedFields();
+            List<ProjectSearchResult.Hit> hits = new ArrayList<>(pageDocs.length);
+            for (int i = 0; i < pageDocs.length; i++) {
+                Document document = storedFields.document(pageDocs[i].doc, Set.of(FIELD_ID));
+                hits.add(new ProjectSearchResult.Hit(
+                        UUID.fromString(document.get(FIELD_ID)),
+                        pageDocs[i].score,
+                        highlights.get(FIELD_TITLE)[i],
+                        highlights.get(FIELD_DETAIL)[i]));
+            }
+            return new ProjectSearchResult(searcher.count(query), hits);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            release(searcher);
+        }
+    }
+
+    /**
+     * MySQL 의 전체 프로젝트로 색인을 다시 만든다.
+     * 기존 문서를 먼저 비우지 않고 덮어쓰므로, 재색인 중에도 검색 결과가 비지 않는다.
+     *
+     * @return 색인한 프로젝트 수
+     */
+    public int rebuild() {
+        if (!rebuildLock.tryLock()) {
+            throw new IllegalStateException("이미 검색 색인을 재구성하는 중입니다.");
+        }
+        try {
+            long currentGeneration;
+            generationLock.writeLock().lock();
+            try {
+                currentGeneration = generation.incrementAndGet();
+            } finally {
+                generationLock.writeLock().unlock();
+            }
+
+            int count = 0;
+            UUID lastId = new UUID(0L, 0L);
+            List<ProjectSearchDocument> batch;
+            do {
+                batch = projectRepository.findSearchDocumentsAfter(lastId, PageRequest.ofSize(REBUILD_BATCH_SIZE));
+                for (ProjectSearchDocument document : batch) {
+                    indexWriter.updateDocument(idTerm(document.id()), toDocument(document, currentGeneration));
+                }
+                if (!batch.isEmpty()) {
+                    lastId = batch.get(batch.size() - 1).id();
+                }
+                count += batch.size();
+            } while (batch.size() == REBUILD_BATCH_SIZE);
+
+            indexWriter.deleteDocuments(LongPoint.newRangeQuery(FIELD_GENERATION, Long.MIN_VALUE, currentGeneration - 1));
+            indexWriter.commit();
+            searcherManager.maybeRefresh();
+            return count;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        long start = System.currentTimeMillis();
+        try {
+            int count = rebuild();
+            log.info("프로젝트 검색 색인 구성 완료: {}건, {}ms", count, System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            log.error("프로젝트 검색 색인 구성 실패", e);
+        }
+    }
+
+    @Async(AsyncConfig.PROJECT_EVENT_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProjectCreated(ProjectCreatedEvent event) {
+        reindex(event.projectId());
+    }
+
+    @Async(AsyncConfig.PROJECT_EVENT_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProjectUpdated(ProjectUpdatedEvent event) {
+        reindex(event.projectId());
+    }
+
+    @Async(AsyncConfig.PROJECT_EVENT_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProjectDeleted(ProjectDeletedEvent event) {
+        try {
+            indexWriter.deleteDocuments(idTerm(event.projectId()));
+            searcherManager.maybeRefresh();
+        } catch (IOException | RuntimeException e) {
+            log.warn("프로젝트 검색 색인 삭제 실패: {}", event.projectId(), e);
+        }
+    }
+
+    // 색인 실패가 이미 커밋된 요청을 실패시키지 않도록 로그만 남긴다. (다음 재색인 때 맞춰진다)
+    private void reindex(UUID projectId) {
+        try {
+            ProjectSearchDocument document = projectRepository.findSearchDocumentById(projectId).orElse(null);
+            generationLock.readLock().lock();
+            try {
+                if (document == null) {
+                    indexWriter.deleteDocuments(idTerm(projectId));
+                } else {
+                    indexWriter.updateDocument(idTerm(projectId), toDocument(document, generation.get()));
+                }
+            } finally {
+                generationLock.readLock().unlock();
+            }
+            searcherManager.maybeRefresh();
+        } catch (IOException | RuntimeException e) {
+            log.warn("프로젝트 검색 색인 갱신 실패: {}", projectId, e);
+        }
+    }
+
+    private Query parse(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            throw new IllegalArgumentException("검색어를 입력해주세요.");
+        }
+        try {
+            MultiFieldQueryParser parser = new MultiFieldQueryParser(SEARCH_FIELDS, analyzer, FIELD_BOOSTS);
+            return parser.parse(QueryParser.escape(keyword.trim()));
+        } catch (ParseException e) {
+            throw new IllegalArgumentException("유효하지 않은 검색어입니다.");
+        }
+    }
+
+    private Document toDocument(ProjectSearchDocument project, long generation) {
+        Document document = new Document();
+        document.add(new StringField(FIELD_ID, project.id().toString(), Field.Store.YES));
+        document.add(new TextField(FIELD_TITLE, nullToEmpty(project.title()), Field.Store.YES));
+        document.add(new TextField(FIELD_DETAIL, nullToEmpty(project.detail()), Field.Store.YES));
+        document.add(new LongPoint(FIELD_GENERATION, generation));
+        return document;
+    }
+
+    private Term idTerm(UUID projectId) {
+        return new Term(FIELD_ID, projectId.toString());
+    }
+
+    private String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    private IndexSearcher acquire() {
+        try {
+            return searcherManager.acquire();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void release(IndexSearcher searcher) {
+        try {
+            searcherManager.release(searcher);
+        } catch (IOException e) {
+            log.warn("프로젝트 검색 searcher 반환 실패", e);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        indexWriter.close();
+        directory.close();
+        analyzer.close();
+    }
+}
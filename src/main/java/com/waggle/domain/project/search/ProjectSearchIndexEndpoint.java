@@ -0,0 +1,29 @@
+package com.waggle.domain.project.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 운영 중 검색 색인을 MySQL 기준으로 다시 만드는 관리용 엔드포인트. (POST /actuator/projectsearch)
+ */
+@Component
+@Endpoint(id = "projectsearch")
+@RequiredArgsConstructor
+public class ProjectSearchIndexEndpoint {
+
+    private final ProjectSearchIndex projectSearchIndex;
+
+    @WriteOperation
+    public Map<String, Object> rebuild() {
+        long start = System.currentTimeMillis();
+        int count = projectSearchIndex.rebuild();
+        return Map.of(
+                "indexed", count,
+                "elapsed_ms", System.currentTimeMillis() - start
+        );
+    }
+}
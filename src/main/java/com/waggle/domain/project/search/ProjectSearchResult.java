@@ -0,0 +1,13 @@
+package com.waggle.domain.project.search;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 검색 색인 조회 결과. 하이라이트는 일치하는 부분이 없으면 원문 앞부분이다.
+ */
+public record ProjectSearchResult(long total, List<Hit> hits) {
+
+    public record Hit(UUID projectId, float score, String titleHighlight, String detailHighlight) {
+    }
+}
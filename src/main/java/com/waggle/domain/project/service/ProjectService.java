@@ -1,21 +1,44 @@
 package com.waggle.domain.project.service;
 
+import com.waggle.domain.project.cache.ProjectDetail;
+import com.waggle.domain.project.dto.ProjectApplicantDecisionDto;
+import com.waggle.domain.project.dto.ProjectCandidateDto;
+import com.waggle.domain.project.dto.ProjectFacetResponseDto;
+import com.waggle.domain.project.dto.ProjectFeedCondition;
+import com.waggle.domain.project.dto.ProjectFeedResponseDto;
 import com.waggle.domain.project.dto.ProjectInputDto;
+import com.waggle.domain.project.dto.ProjectRecommendationResponseDto;
+import com.waggle.domain.project.dto.ProjectResponseDto;
+import com.waggle.domain.project.dto.ProjectSearchResponseDto;
 import com.waggle.domain.project.entity.Project;
+import com.waggle.domain.project.facet.ProjectFacetFilter;
 import com.waggle.domain.user.entity.User;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
 public interface ProjectService {
     Project getProjectByProjectId(UUID id);
+    ProjectDetail getProjectDetail(UUID id);
+    Optional<String> getProjectDetailETag(UUID id);
+    void countProjectView(UUID id);
+    ProjectFeedResponseDto getProjectFeed(ProjectFeedCondition condition);
+    Set<Project> getTrendingProjects(int size);
+    ProjectRecommendationResponseDto getRecommendedProjects(String cursor, int size);
+    ProjectFacetResponseDto getProjectFacets(ProjectFacetFilter filter);
+    ProjectSearchResponseDto searchProjects(String keyword, int page, int size);
     Project createProject(ProjectInputDto projectInputDto);
     Project updateProject(UUID id, ProjectInputDto projectInputDto);
     void deleteProject(UUID id);
     Set<User> getUsersByProjectId(UUID id);
     Set<User> getAppliedUsersByProjectId(UUID id);
+    List<ProjectCandidateDto> getRankedAppliedUsers(UUID projectId);
+    List<ProjectCandidateDto> getSuggestedCandidates(UUID projectId, int size);
     Set<User> approveAppliedUser(UUID projectId, String userId);
     Set<User> rejectAppliedUser(UUID projectId, String userId);
+    Set<User> decideAppliedUsers(UUID projectId, ProjectApplicantDecisionDto decisionDto);
     Set<User> rejectMemberUser(UUID projectId, String userId);
     void delegateLeader(UUID projectId, String userId);
     Set<Project> getUserProjects(String userId);
@@ -1,8 +1,45 @@
 package com.waggle.domain.project.service;
 
+import com.waggle.domain.project.dto.ProjectApplicantDecisionDto;
+import com.waggle.domain.project.dto.ProjectCandidateDto;
+import com.waggle.domain.project.dto.ProjectFacetResponseDto;
+import com.waggle.domain.project.dto.ProjectFeedCondition;
+import com.waggle.domain.project.dto.ProjectFeedCursor;
+import com.waggle.domain.project.dto.ProjectFeedResponseDto;
 import com.waggle.domain.project.dto.ProjectInputDto;
+import com.waggle.domain.project.dto.ProjectJobInputDto;
+import com.waggle.domain.project.dto.ProjectRecommendationCursor;
+import com.waggle.domain.project.dto.ProjectRecommendationResponseDto;
+import com.waggle.domain.project.dto.ProjectResponseDto;
+import com.waggle.domain.project.dto.ProjectSearchHitDto;
+import com.waggle.domain.project.dto.ProjectSearchResponseDto;
+import com.waggle.domain.project.cache.ProjectDetail;
+import com.waggle.domain.project.cache.ProjectDetailCache;
 import com.waggle.domain.project.entity.*;
+import com.waggle.domain.project.event.ProjectAppliedEvent;
+import com.waggle.domain.project.event.ProjectBookmarkToggledEvent;
+import com.waggle.domain.project.event.ProjectChangedEvent;
+import com.waggle.domain.project.event.ProjectCreatedEvent;
+import com.waggle.domain.project.event.ProjectDeletedEvent;
+import com.waggle.domain.project.event.ProjectMemberApprovedEvent;
+import com.waggle.domain.project.event.ProjectUpdatedEvent;
+import com.waggle.domain.project.facet.ProjectFacetFilter;
+import com.waggle.domain.project.facet.ProjectFacetIndex;
+import com.waggle.domain.project.match.MatchScore;
+import com.waggle.domain.project.match.ProjectMatchEngine;
+import com.waggle.domain.project.recommend.ProjectRecommendationStore;
+import com.waggle.domain.project.recommend.ProjectRecommender;
+import com.waggle.domain.project.match.ProjectMatchProfile;
+import com.waggle.domain.project.repository.ProjectApplicantRepository;
+import com.waggle.domain.project.repository.ProjectBookmarkRepository;
+import com.waggle.domain.project.repository.ProjectMemberRepository;
 import com.waggle.domain.project.repository.ProjectRepository;
+import com.waggle.domain.project.search.ProjectSearchIndex;
+import com.waggle.domain.project.search.ProjectSearchResult;
+import com.waggle.domain.project.trending.ProjectTrendingRanking;
+import com.waggle.domain.project.view.ProjectViewCounter;
+import com.waggle.domain.reference.entity.Job;
+import com.waggle.domain.reference.entity.Skill;
 import com.waggle.domain.reference.service.ReferenceService;
 import com.waggle.domain.user.entity.User;
 import com.waggle.domain.user.repository.UserRepository;
@@ -10,14 +47,19 @@ import com.waggle.domain.user.service.UserService;
 import com.waggle.global.exception.AccessDeniedException;
 import com.waggle.global.exception.ProjectException;
 import com.waggle.global.response.ApiStatus;
+import com.waggle.global.retry.RetryOnConflict;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -26,35 +68,217 @@ import java.util.stream.Collectors;
 public class ProjectServiceImpl implements ProjectService{
 
     private final ProjectRepository projectRepository;
+    private final ProjectBookmarkRepository projectBookmarkRepository;
+    private final ProjectMemberRepository projectMemberRepository;
+    private final ProjectApplicantRepository projectApplicantRepository;
     private final UserRepository userRepository;
     private final UserService userService;
     private final ReferenceService referenceService;
+    private final ProjectDetailCache projectDetailCache;
+    private final ProjectSearchIndex projectSearchIndex;
+    private final ProjectFacetIndex projectFacetIndex;
+    private final ProjectTrendingRanking projectTrendingRanking;
+    private final ProjectViewCounter projectViewCounter;
+    private final ProjectMatchEngine projectMatchEngine;
+    private final ProjectRecommender projectRecommender;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final int MAX_FEED_SIZE = 50;
+    private static final int MAX_SEARCH_WINDOW = 1000;
+    private static final int MAX_DECISION_SIZE = 100;
+    private static final int MAX_CANDIDATE_SIZE = 50;
 
     @Override
     public Project getProjectByProjectId(UUID id) {
-        return projectRepository.findById(id)
+        return projectRepository.findDetailById(id)
                 .orElseThrow(() -> new EmptyResultDataAccessException(1));
     }
 
     @Override
+    public ProjectDetail getProjectDetail(UUID id) {
+        ProjectDetail project = projectDetailCache.get(id)
+                .orElseGet(() -> {
+                    // 읽는 사이 수정이 커밋되면 읽은 값을 캐시하지 않도록, DB 를 읽기 전에 세대를 받아 둔다.
+                    String fillToken = projectDetailCache.fillToken(id);
+                    return projectDetailCache.put(ProjectResponseDto.from(getProjectByProjectId(id)), fillToken);
+                });
+        projectViewCounter.increment(id);
+        return project;
+    }
+
+    // 캐시에 있는 경우에만 알 수 있다. 없으면 상세를 읽어 ETag 를 계산해야 한다.
+    @Override
+    public Optional<String> getProjectDetailETag(UUID id) {
+        return projectDetailCache.getETag(id);
+    }
+
+    // 본문 없이 304 로 응답한 조회도 조회수에는 포함한다.
+    @Override
+    public void countProjectView(UUID id) {
+        projectViewCounter.increment(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Set<Project> getTrendingProjects(int size) {
+        size = Math.min(Math.max(size, 1), MAX_FEED_SIZE);
+
+        // 정리 주기 사이에 마감된 프로젝트가 섞일 수 있어 넉넉히 읽고 걸러낸다.
+        List<UUID> ids = projectTrendingRanking.top(size * 2);
+        Map<UUID, Project> projects = loadDetails(projectRepository.findAllDetailByIdIn(ids)).stream()
+                .collect(Collectors.toMap(Project::getId, Function.identity()));
+        LocalDateTime now = LocalDateTime.now();
+        return ids.stream()
+                .map(projects::get)
+                .filter(Objects::nonNull)
+                .filter(project -> project.getRecruitmentDate().isAfter(now))
+                .limit(size)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ProjectRecommendationResponseDto getRecommendedProjects(String cursor, int size) {
+        size = Math.min(Math.max(size, 1), MAX_FEED_SIZE);
+        ProjectRecommendationCursor after = ProjectRecommendationCursor.decode(cursor);
+
+        // 미리 계산된 목록에서 커서 다음 항목만 읽는다. (score, id) 키셋이라 목록에서 항목이 빠져도 건너뛰지 않는다.
+        UUID userId = userService.getCurrentUserId();
+        List<ProjectRecommendationStore.Entry> entries =
+                projectRecommender.recommendations(userId, after == null ? null : after.toEntry());
+
+        // 계산 이후 마감/삭제된 프로젝트는 거르면서, 다음 페이지 여부까지 알 수 있게 size + 1개를 채울 때까지 이어서 읽는다.
+        Map<ProjectRecommendationStore.Entry, Project> open = new LinkedHashMap<>();
+        List<UUID> closedIds = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        int from = 0;
+        while (open.size() <= size && from < entries.size()) {
+            List<ProjectRecommendationStore.Entry> batch =
+                    entries.subList(from, Math.min(entries.size(), from + size + 1 - open.size()));
+            from += batch.size();
+            Map<UUID, Project> projects = loadDetails(projectRepository.findAllDetailByIdIn(batch.stream()
+                            .map(ProjectRecommendationStore.Entry::projectId)
+                            .toList())).stream()
+                    .collect(Collectors.toMap(Project::getId, Function.identity()));
+            for (ProjectRecommendationStore.Entry entry : batch) {
+                Project project = projects.get(entry.projectId());
+                if (project != null && project.getRecruitmentDate().isAfter(now)) {
+                    open.put(entry, project);
+                } else {
+                    closedIds.add(entry.projectId());
+                }
+            }
+        }
+        projectRecommender.discard(userId, closedIds);
+
+        boolean hasNext = open.size() > size;
+        List<ProjectRecommendationStore.Entry> page = open.keySet().stream()
+                .limit(size)
+                .toList();
+        return ProjectRecommendationResponseDto.builder()
+                .projects(page.stream()
+                        .map(open::get)
+                        .map(ProjectResponseDto::from)
+                        .toList())
+                .nextCursor(hasNext ? ProjectRecommendationCursor.from(page.get(page.size() - 1)).encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ProjectFeedResponseDto getProjectFeed(ProjectFeedCondition condition) {
+        int size = Math.min(Math.max(condition.getSize(), 1), MAX_FEED_SIZE);
+
+        // 1. 필터/커서로 (created_at, id)만 조회 (size + 1개를 읽어 다음 페이지 여부 판단)
+        List<ProjectFeedCursor> keys = projectRepository.findFeedKeys(condition, size + 1);
+        boolean hasNext = keys.size() > size;
+        List<ProjectFeedCursor> pageKeys = hasNext ? keys.subList(0, size) : keys;
+        List<UUID> pageIds = pageKeys.stream()
+                .map(ProjectFeedCursor::id)
+                .toList();
+
+        // 2. 페이지에 포함된 프로젝트만 로딩 후 id 순서대로 정렬
+        Map<UUID, Project> projects = loadDetails(projectRepository.findAllDetailByIdIn(pageIds)).stream()
+                .collect(Collectors.toMap(Project::getId, Function.identity()));
+        List<Project> page = pageIds.stream()
+                .map(projects::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return ProjectFeedResponseDto.builder()
+                .projects(page.stream()
+                        .map(ProjectResponseDto::from)
+                        .toList())
+                // 로딩 사이에 삭제된 프로젝트가 있어도 커서는 조회한 키 기준으로 만든다.
+                .nextCursor(hasNext ? pageKeys.get(pageKeys.size() - 1).encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    @Override
+    public ProjectFacetResponseDto getProjectFacets(ProjectFacetFilter filter) {
+        return ProjectFacetResponseDto.from(projectFacetIndex.query(filter));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ProjectSearchResponseDto searchProjects(String keyword, int page, int size) {
+        size = Math.min(Math.max(size, 1), MAX_FEED_SIZE);
+        if (page < 0 || (long) (page + 1) * size > MAX_SEARCH_WINDOW) {
+            throw new IllegalArgumentException("조회할 수 있는 검색 결과 범위를 벗어났습니다.");
+        }
+
+        // 1. 색인에서 관련도순 id + 하이라이트 조회
+        ProjectSearchResult result = projectSearchIndex.search(keyword, page, size);
+
+        // 2. 페이지에 포함된 프로젝트만 로딩 (색인 반영 전 삭제된 프로젝트는 제외)
+        Map<UUID, Project> projects = loadDetails(projectRepository.findAllDetailByIdIn(result.hits().stream()
+                        .map(ProjectSearchResult.Hit::projectId)
+                        .toList())).stream()
+                .collect(Collectors.toMap(Project::getId, Function.identity()));
+        List<ProjectSearchHitDto> hits = result.hits().stream()
+                .filter(hit -> projects.containsKey(hit.projectId()))
+                .map(hit -> ProjectSearchHitDto.builder()
+                        .project(ProjectResponseDto.from(projects.get(hit.projectId())))
+                        .titleHighlight(hit.titleHighlight())
+                        .detailHighlight(hit.detailHighlight())
+                        .score(hit.score())
+                        .build())
+                .toList();
+
+        return ProjectSearchResponseDto.builder()
+                .hits(hits)
+                .total(result.total())
+                .page(page)
+                .size(size)
+                .hasNext((long) (page + 1) * size < result.total())
+                .build();
+    }
+
+    @Override
+    @Transactional
     public Project createProject(ProjectInputDto projectInputDto) {
+        User leader = userService.getCurrentUser();
         Project newProject = Project.builder()
                 .title(projectInputDto.getTitle())
                 .industry(referenceService.getIndustryById(projectInputDto.getIndustryId()))
                 .waysOfWorking(referenceService.getWaysOfWorkingById(projectInputDto.getWayOfWorkingId()))
                 .recruitmentDate(projectInputDto.getRecruitmentDate())
+                .status(RecruitmentStatus.of(projectInputDto.getRecruitmentDate(), LocalDateTime.now()))
                 .durationOfWorking(referenceService.getDurationOfWorkingById(projectInputDto.getDurationOfWorkingId()))
                 .detail(projectInputDto.getDetail())
                 .connectUrl(projectInputDto.getConnectUrl())
                 .referenceUrl(projectInputDto.getReferenceUrl())
                 .bookmarkCnt(0)
+                .leaderId(leader.getId())
                 .build();
         newProject = projectRepository.save(newProject);
 
         Set<ProjectMember> projectMembers = new HashSet<>();
         projectMembers.add(ProjectMember.builder()
                 .project(newProject)
-                .user(userService.getCurrentUser())
+                .user(leader)
                 .isLeader(true)
                 .build());
         newProject.setProjectMembers(projectMembers);
@@ -63,17 +287,19 @@ public class ProjectServiceImpl implements ProjectService{
         newProject.setMemberJobs(getProjectMemberJobs(projectInputDto, newProject));
         newProject.setProjectSkills(getProjectSkills(projectInputDto, newProject));
         projectRepository.save(newProject);
+        eventPublisher.publishEvent(new ProjectCreatedEvent(newProject.getId()));
 
         return newProject;
     }
 
     @Override
+    @RetryOnConflict
+    @Transactional
     public Project updateProject(UUID id, ProjectInputDto projectInputDto) {
-        Project project = projectRepository.findById(id)
+        Project project = projectRepository.findDetailForWriteById(id)
                 .orElseThrow(() -> new EmptyResultDataAccessException(1));
-        User currentUser = userService.getCurrentUser();
 
-        if (!getLeader(project).getId().equals(currentUser.getId())) {
+        if (!userService.getCurrentUserId().equals(project.getLeaderId())) {
             throw new AccessDeniedException(ApiStatus._NOT_LEADER);
         }
 
@@ -81,18 +307,23 @@ public class ProjectServiceImpl implements ProjectService{
         project.setIndustry(referenceService.getIndustryById(projectInputDto.getIndustryId()));
         project.setWaysOfWorking(referenceService.getWaysOfWorkingById(projectInputDto.getWayOfWorkingId()));
         project.setRecruitmentDate(projectInputDto.getRecruitmentDate());
+        // 마감일을 미루면 다시 모집 중이 되고, 당기면 바로 마감된다.
+        project.setStatus(RecruitmentStatus.of(projectInputDto.getRecruitmentDate(), LocalDateTime.now()));
         project.setDurationOfWorking(referenceService.getDurationOfWorkingById(projectInputDto.getDurationOfWorkingId()));
-        project.setRecruitmentJobs(getProjectRecruitmentJobs(projectInputDto, project));
-        project.setMemberJobs(getProjectMemberJobs(projectInputDto, project));
-        project.setProjectSkills(getProjectSkills(projectInputDto, project));
+        // 직무/스킬 id 기준으로 비교해 바뀐 행만 insert/update/delete 한다.
+        syncRecruitmentJobs(project, projectInputDto.getRecruitmentJobs());
+        syncMemberJobs(project, projectInputDto.getMemberJobs());
+        syncProjectSkills(project, projectInputDto.getSkillIds());
         project.setDetail(projectInputDto.getDetail());
         project.setConnectUrl(projectInputDto.getConnectUrl());
         project.setReferenceUrl(projectInputDto.getReferenceUrl());
         projectRepository.save(project);
+        eventPublisher.publishEvent(new ProjectUpdatedEvent(id));
         return project;
     }
 
     @Override
+    @RetryOnConflict
     @Transactional
     public void deleteProject(UUID id) {
         //id가 아닌 다른 기준으로 값을 삭제할 때
@@ -103,69 +334,76 @@ public class ProjectServiceImpl implements ProjectService{
         //id 기준
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new EmptyResultDataAccessException(1));
-        User currentUser = userService.getCurrentUser();
 
-        if (!getLeader(project).getId().equals(currentUser.getId())) {
+        if (!userService.getCurrentUserId().equals(project.getLeaderId())) {
             throw new AccessDeniedException(ApiStatus._NOT_LEADER);
         }
 
         projectRepository.delete(project);
+        eventPublisher.publishEvent(new ProjectDeletedEvent(id));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Set<User> getUsersByProjectId(UUID id) {
-        Project project = projectRepository.findById(id)
-                .orElseThrow(() -> new EmptyResultDataAccessException(1));
-
-        return project.getProjectMembers().stream()
-                .map(ProjectMember::getUser)
-                .sorted(Comparator
-                        .comparing((User user) -> user.getUserJobs().stream()
-                                .map(userJob -> userJob.getJob().getId())
-                                .min(Long::compareTo)
-                                .orElse(Long.MAX_VALUE)) // job_id 기준 정렬, 없으면 가장 큰 값으로
-                        .thenComparing(User::getName)) // job_id가 같으면 이름순 정렬
-                .collect(Collectors.toCollection(LinkedHashSet::new));
+        List<User> users = projectMemberRepository.findUsersByProjectId(id);
+        // 리더가 항상 있으므로 비어 있으면 없는 프로젝트다.
+        if (users.isEmpty()) {
+            throw new EmptyResultDataAccessException(1);
+        }
+        return sortByJob(users);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Set<User> getAppliedUsersByProjectId(UUID id) {
-        Project project = projectRepository.findById(id)
-                .orElseThrow(() -> new EmptyResultDataAccessException(1));
+        List<User> users = projectApplicantRepository.findUsersByProjectId(id);
+        if (users.isEmpty() && !projectRepository.existsById(id)) {
+            throw new EmptyResultDataAccessException(1);
+        }
+        return sortByJob(users);
+    }
 
-        return project.getProjectApplicants().stream()
-                .map(ProjectApplicant::getUser)
-                .sorted(Comparator
-                        .comparing((User user) -> user.getUserJobs().stream()
-                                .map(userJob -> userJob.getJob().getId())
-                                .min(Long::compareTo)
-                                .orElse(Long.MAX_VALUE)) // job_id 기준 정렬, 없으면 가장 큰 값으로
-                        .thenComparing(User::getName)) // job_id가 같으면 이름순 정렬
-                .collect(Collectors.toCollection(LinkedHashSet::new));
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProjectCandidateDto> getRankedAppliedUsers(UUID projectId) {
+        checkLeader(projectId);
+
+        List<UUID> applicantIds = projectApplicantRepository.findUserIdsByProjectId(projectId);
+        ProjectMatchProfile profile = projectMatchEngine.profile(projectId);
+        return toCandidates(projectMatchEngine.rank(profile, applicantIds, applicantIds.size()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProjectCandidateDto> getSuggestedCandidates(UUID projectId, int size) {
+        checkLeader(projectId);
+        size = Math.min(Math.max(size, 1), MAX_CANDIDATE_SIZE);
+
+        ProjectMatchProfile profile = projectMatchEngine.profile(projectId);
+        Set<UUID> pool = projectMatchEngine.candidatePool(profile);
+        // 이미 참여했거나 지원한 사용자는 추천하지 않는다.
+        projectMemberRepository.findUserIdsByProjectId(projectId).forEach(pool::remove);
+        projectApplicantRepository.findUserIdsByProjectId(projectId).forEach(pool::remove);
+        return toCandidates(projectMatchEngine.rank(profile, pool, size));
     }
 
     @Override
     @Transactional
     public Set<User> approveAppliedUser(UUID projectId, String userId) {
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new EmptyResultDataAccessException(1));
-        User currentUser = userService.getCurrentUser();
-
-        if (!getLeader(project).getId().equals(currentUser.getId())) {
-            throw new AccessDeniedException(ApiStatus._NOT_LEADER);
+        checkLeader(projectId);
+
+        UUID applicantId = UUID.fromString(userId);
+        try {
+            if (projectMemberRepository.insertFromApplicant(UUID.randomUUID(), projectId, applicantId, LocalDateTime.now()) == 0) {
+                throw new EmptyResultDataAccessException(1);
+            }
+        } catch (DataIntegrityViolationException e) {
+            // 이미 멤버인 사용자 (동시에 두 번 승인한 경우 포함)
+            throw new ProjectException(ApiStatus._ALREADY_JOINED_PROJECT);
         }
-
-        User user = userService.getUserByUserId(userId);
-        ProjectMember projectMember = ProjectMember.builder()
-                .project(project)
-                .user(user)
-                .isLeader(false)
-                .joinedAt(LocalDateTime.now())
-                .build();
-        project.getProjectMembers().add(projectMember);;
-
-        project.getProjectApplicants().removeIf(member -> member.getUser().getId().equals(user.getId()));
-        projectRepository.save(project);
+        projectApplicantRepository.deleteByProjectIdAndUserId(projectId, applicantId);
+        eventPublisher.publishEvent(new ProjectMemberApprovedEvent(projectId, Set.of(applicantId)));
 
         return getUsersByProjectId(projectId);
     }
@@ -173,17 +411,51 @@ public class ProjectServiceImpl implements ProjectService{
     @Override
     @Transactional
     public Set<User> rejectAppliedUser(UUID projectId, String userId) {
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new EmptyResultDataAccessException(1));
-        User currentUser = userService.getCurrentUser();
+        checkLeader(projectId);
 
-        if (!getLeader(project).getId().equals(currentUser.getId())) {
-            throw new AccessDeniedException(ApiStatus._NOT_LEADER);
+        UUID applicantId = UUID.fromString(userId);
+        if (projectApplicantRepository.deleteByProjectIdAndUserId(projectId, applicantId) > 0) {
+            eventPublisher.publishEvent(new ProjectChangedEvent(projectId));
+        } else {
+            checkUserExists(applicantId);
         }
 
-        User user = userService.getUserByUserId(userId);
-        project.getProjectApplicants().removeIf(member -> member.getUser().getId().equals(user.getId()));
-        projectRepository.save(project);
+        return getUsersByProjectId(projectId);
+    }
+
+    @Override
+    @Transactional
+    public Set<User> decideAppliedUsers(UUID projectId, ProjectApplicantDecisionDto decisionDto) {
+        Set<UUID> approveIds = decisionDto.getApproveUserIds() == null ? Set.of() : decisionDto.getApproveUserIds();
+        Set<UUID> rejectIds = decisionDto.getRejectUserIds() == null ? Set.of() : decisionDto.getRejectUserIds();
+        if (approveIds.isEmpty() && rejectIds.isEmpty()) {
+            throw new IllegalArgumentException("승인 또는 거절할 사용자를 입력해주세요.");
+        }
+        if (approveIds.size() + rejectIds.size() > MAX_DECISION_SIZE) {
+            throw new IllegalArgumentException("한 번에 처리할 수 있는 지원자 수를 초과했습니다.");
+        }
+        if (!Collections.disjoint(approveIds, rejectIds)) {
+            throw new IllegalArgumentException("같은 사용자를 승인과 거절에 함께 넣을 수 없습니다.");
+        }
+        checkLeader(projectId);
+
+        // 승인은 INSERT ... SELECT 한 번, 승인/거절 대상 지원 내역 삭제는 DELETE 한 번으로 처리한다.
+        if (!approveIds.isEmpty()) {
+            try {
+                // 지원 내역이 없는 사용자가 섞여 있으면 전체를 되돌린다.
+                if (projectMemberRepository.insertFromApplicants(projectId, approveIds, LocalDateTime.now()) != approveIds.size()) {
+                    throw new EmptyResultDataAccessException(approveIds.size());
+                }
+            } catch (DataIntegrityViolationException e) {
+                throw new ProjectException(ApiStatus._ALREADY_JOINED_PROJECT);
+            }
+        }
+        Set<UUID> decidedIds = new HashSet<>(approveIds);
+        decidedIds.addAll(rejectIds);
+        projectApplicantRepository.deleteByProjectIdAndUserIdIn(projectId, decidedIds);
+        if (!approveIds.isEmpty()) {
+            eventPublisher.publishEvent(new ProjectMemberApprovedEvent(projectId, Set.copyOf(approveIds)));
+        }
 
         return getUsersByProjectId(projectId);
     }
@@ -191,138 +463,131 @@ public class ProjectServiceImpl implements ProjectService{
     @Override
     @Transactional
     public Set<User> rejectMemberUser(UUID projectId, String userId) {
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new EmptyResultDataAccessException(1));
-        User currentUser = userService.getCurrentUser();
+        UUID leaderId = checkLeader(projectId);
 
-        if (!getLeader(project).getId().equals(currentUser.getId())) {
-            throw new AccessDeniedException(ApiStatus._NOT_LEADER);
+        // 리더의 멤버 행을 지우면 leader_id 가 멤버가 아닌 사용자를 가리키게 된다. 리더는 위임 후에만 빠질 수 있다.
+        UUID memberId = UUID.fromString(userId);
+        if (memberId.equals(leaderId)) {
+            throw new ProjectException(ApiStatus._CANNOT_REJECT_LEADER);
+        }
+        if (projectMemberRepository.deleteByProjectIdAndUserId(projectId, memberId) > 0) {
+            eventPublisher.publishEvent(new ProjectChangedEvent(projectId));
+        } else {
+            checkUserExists(memberId);
         }
-
-        User user = userService.getUserByUserId(userId);
-        project.getProjectMembers().removeIf(member -> member.getUser().getId().equals(user.getId()));
-        projectRepository.save(project);
 
         return getUsersByProjectId(projectId);
     }
 
     @Override
+    @Transactional
     public void delegateLeader(UUID projectId, String userId) {
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new EmptyResultDataAccessException(1));
-        User currentUser = userService.getCurrentUser();
+        UUID currentUserId = userService.getCurrentUserId();
+        UUID newLeaderId = UUID.fromString(userId);
 
-        if (!getLeader(project).getId().equals(currentUser.getId())) {
-            throw new AccessDeniedException(ApiStatus._NOT_LEADER);
+        // 리더 확인과 교체를 projects 한 행의 조건부 UPDATE 로 처리해 동시 위임으로 리더가 둘이 되지 않게 한다.
+        if (projectRepository.changeLeader(projectId, currentUserId, newLeaderId) == 0) {
+            throw notLeader(projectId);
         }
-
-        User user = userService.getUserByUserId(userId);
-
-        project.getProjectMembers().stream()
-                .filter(member -> member.getUser().getId().equals(currentUser.getId()))
-                .findFirst()
-                .ifPresent(member -> member.setLeader(false));
-
-        project.getProjectMembers().stream()
-                .filter(member -> member.getUser().getId().equals(user.getId()))
-                .findFirst()
-                .ifPresent(member -> member.setLeader(true));
-
-        projectRepository.save(project);
+        // project_member 의 리더 표시도 같은 트랜잭션에서 맞춘다.
+        projectMemberRepository.resignLeader(projectId, currentUserId);
+        if (projectMemberRepository.assignLeader(projectId, newLeaderId) == 0) {
+            throw new ProjectException(ApiStatus._NOT_JOINED_PROJECT);
+        }
+        eventPublisher.publishEvent(new ProjectChangedEvent(projectId));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Set<Project> getUserProjects(String userId) {
-        User user = userService.getUserByUserId(userId);
-        return user.getProjectMembers().stream()
-                .map(ProjectMember::getProject)
-                .sorted(Comparator.comparing(Project::getCreatedAt).reversed())
-                .collect(Collectors.toCollection(LinkedHashSet::new));
+        UUID id = UUID.fromString(userId);
+        if (!userRepository.existsById(id)) {
+            throw new EmptyResultDataAccessException(1);
+        }
+        return new LinkedHashSet<>(loadDetails(projectRepository.findAllDetailByMemberUserId(id)));
     }
 
     @Override
     @Transactional
     public void deleteUserProject(String projectId) {
-        User user = userService.getCurrentUser();
-        Project project = projectRepository.findById(UUID.fromString(projectId))
-                .orElseThrow(() -> new EmptyResultDataAccessException(1));
+        UUID userId = userService.getCurrentUserId();
+        UUID id = UUID.fromString(projectId);
 
-        if (!project.getProjectMembers().stream().anyMatch(projectMember -> projectMember.getUser().getId().equals(user.getId()))) {
+        // 리더는 위임한 뒤에만 나갈 수 있다.
+        UUID leaderId = projectRepository.findLeaderIdById(id)
+                .orElseThrow(() -> new EmptyResultDataAccessException(1));
+        if (leaderId.equals(userId)) {
+            throw new ProjectException(ApiStatus._LEADER_CANNOT_LEAVE);
+        }
+        if (projectMemberRepository.deleteNonLeaderByProjectIdAndUserId(id, userId) == 0) {
             throw new ProjectException(ApiStatus._NOT_JOINED_PROJECT);
         }
-
-        project.getProjectMembers().removeIf(projectMember -> projectMember.getUser().getId().equals(user.getId()));
-        projectRepository.save(project);
+        eventPublisher.publishEvent(new ProjectChangedEvent(id));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Set<Project> getUserBookmarkProjects(String userId) {
-        User user = userService.getUserByUserId(userId);
-        return user.getProjectBookmarks().stream()
-                .map(ProjectBookmark::getProject)
-                .sorted(Comparator.comparing(Project::getCreatedAt).reversed())
-                .collect(Collectors.toCollection(LinkedHashSet::new));
+        UUID id = UUID.fromString(userId);
+        if (!userRepository.existsById(id)) {
+            throw new EmptyResultDataAccessException(1);
+        }
+        return new LinkedHashSet<>(loadDetails(projectRepository.findAllDetailByBookmarkUserId(id)));
     }
 
     @Override
+    @Transactional
     public Project applyProject(String projectId) {
-        User user = userService.getCurrentUser();
-        Project project = projectRepository.findById(UUID.fromString(projectId))
-                .orElseThrow(() -> new EmptyResultDataAccessException(1));
+        UUID userId = userService.getCurrentUserId();
+        Project project = getProjectByProjectId(UUID.fromString(projectId));
 
-        if (project.getProjectMembers().stream().anyMatch(projectMember -> projectMember.getUser().getId().equals(user.getId()))) {
+        if (projectMemberRepository.existsByProjectIdAndUserId(project.getId(), userId)) {
             throw new ProjectException(ApiStatus._ALREADY_JOINED_PROJECT);
         }
 
-        if (project.getProjectApplicants().stream().anyMatch(projectMember -> projectMember.getUser().getId().equals(user.getId()))) {
+        if (projectApplicantRepository.existsByProjectIdAndUserId(project.getId(), userId)) {
             throw new ProjectException(ApiStatus._ALREADY_APPLIED_PROJECT);
         }
 
-        project.getProjectApplicants().add(ProjectApplicant.builder()
-                .project(project)
-                .user(user)
-                .build());
-
-        projectRepository.save(project);
+        // 확인과 저장 사이에 같은 지원이 먼저 들어오면 (project_id, user_id) 유니크 키에 걸린다.
+        try {
+            projectApplicantRepository.saveAndFlush(ProjectApplicant.builder()
+                    .project(project)
+                    .user(userRepository.getReferenceById(userId))
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            throw new ProjectException(ApiStatus._ALREADY_APPLIED_PROJECT);
+        }
+        eventPublisher.publishEvent(new ProjectAppliedEvent(project.getId()));
         return project;
     }
 
     @Override
     @Transactional
     public void cancelApplyProject(String projectId) {
-        User user = userService.getCurrentUser();
-        Project project = projectRepository.findById(UUID.fromString(projectId))
-                .orElseThrow(() -> new EmptyResultDataAccessException(1));
-
-        project.getProjectApplicants().removeIf(projectApplicant -> projectApplicant.getUser().getId().equals(user.getId()));
-        projectRepository.save(project);
+        projectApplicantRepository.deleteByProjectIdAndUserId(UUID.fromString(projectId), userService.getCurrentUserId());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Set<Project> getAppliedProjects() {
-        User user = userService.getCurrentUser();
-        return user.getProjectApplicants().stream()
-                .sorted(Comparator.comparing(ProjectApplicant::getAppliedAt).reversed())
-                .map(ProjectApplicant::getProject)
-                .collect(Collectors.toCollection(LinkedHashSet::new));
+        return new LinkedHashSet<>(loadDetails(projectRepository.findAllDetailByApplicantUserId(userService.getCurrentUserId())));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Set<Project> getCurrentUserProjects() {
-        User user = userService.getCurrentUser();
-        return user.getProjectMembers().stream()
-                .map(ProjectMember::getProject)
-                .sorted(Comparator.comparing(Project::getCreatedAt).reversed())
-                .collect(Collectors.toCollection(LinkedHashSet::new));
+        return new LinkedHashSet<>(loadDetails(projectRepository.findAllDetailByMemberUserId(userService.getCurrentUserId())));
     }
 
     private Set<ProjectRecruitmentJob> getProjectRecruitmentJobs(ProjectInputDto projectInputDto, Project project) {
         Set<ProjectRecruitmentJob> projectRecruitmentJobs = new HashSet<>();
+        Map<Long, Job> jobs = resolveJobs(projectInputDto.getRecruitmentJobs());
         projectInputDto.getRecruitmentJobs().forEach(jobDto -> {
             log.info("jobDto: {}", jobDto);
             ProjectRecruitmentJob projectRecruitmentJob = ProjectRecruitmentJob.builder()
                     .project(project)
-                    .job(referenceService.getJobById(jobDto.getJobId()))
+                    .job(jobs.get(jobDto.getJobId()))
                     .recruitmentCnt(jobDto.getCnt())
                     .build();
             projectRecruitmentJobs.add(projectRecruitmentJob);
@@ -332,10 +597,11 @@ public class ProjectServiceImpl implements ProjectService{
 
     private Set<ProjectMemberJob> getProjectMemberJobs(ProjectInputDto projectInputDto, Project project) {
         Set<ProjectMemberJob> projectMemberJobs = new HashSet<>();
+        Map<Long, Job> jobs = resolveJobs(projectInputDto.getMemberJobs());
         projectInputDto.getMemberJobs().forEach(jobDto -> {
             ProjectMemberJob projectMemberJob = ProjectMemberJob.builder()
                     .project(project)
-                    .job(referenceService.getJobById(jobDto.getJobId()))
+                    .job(jobs.get(jobDto.getJobId()))
                     .memberCnt(jobDto.getCnt())
                     .build();
             projectMemberJobs.add(projectMemberJob);
@@ -345,56 +611,175 @@ public class ProjectServiceImpl implements ProjectService{
 
     private Set<ProjectSkill> getProjectSkills(ProjectInputDto projectInputDto, Project project) {
         Set<ProjectSkill> projectSkills = new HashSet<>();
-        projectInputDto.getSkillIds().forEach(skillId -> {
+        referenceService.getSkillsByIds(projectInputDto.getSkillIds()).values().forEach(skill -> {
             ProjectSkill projectSkill = ProjectSkill.builder()
                     .project(project)
-                    .skill(referenceService.getSkillById(skillId))
+                    .skill(skill)
                     .build();
             projectSkills.add(projectSkill);
         });
         return projectSkills;
     }
 
-    private User getLeader(Project project) {
-        return project.getProjectMembers().stream()
-                .filter(ProjectMember::isLeader)
-                .map(ProjectMember::getUser)
-                .findFirst()
+    private void syncRecruitmentJobs(Project project, Set<ProjectJobInputDto> jobDtos) {
+        Map<Long, Job> jobs = resolveJobs(jobDtos);
+        Map<Long, Integer> wanted = toJobCounts(jobDtos);
+        Set<ProjectRecruitmentJob> recruitmentJobs = project.getRecruitmentJobs();
+
+        recruitmentJobs.removeIf(recruitmentJob -> !wanted.containsKey(recruitmentJob.getJob().getId()));
+        recruitmentJobs.forEach(recruitmentJob -> {
+            Integer cnt = wanted.remove(recruitmentJob.getJob().getId());
+            if (cnt != null && recruitmentJob.getRecruitmentCnt() != cnt) {
+                recruitmentJob.updateRecruitmentCnt(cnt);
+            }
+        });
+        wanted.forEach((jobId, cnt) -> recruitmentJobs.add(ProjectRecruitmentJob.builder()
+                .project(project)
+                .job(jobs.get(jobId))
+                .recruitmentCnt(cnt)
+                .build()));
+    }
+
+    private void syncMemberJobs(Project project, Set<ProjectJobInputDto> jobDtos) {
+        Map<Long, Job> jobs = resolveJobs(jobDtos);
+        Map<Long, Integer> wanted = toJobCounts(jobDtos);
+        Set<ProjectMemberJob> memberJobs = project.getMemberJobs();
+
+        memberJobs.removeIf(memberJob -> !wanted.containsKey(memberJob.getJob().getId()));
+        memberJobs.forEach(memberJob -> {
+            Integer cnt = wanted.remove(memberJob.getJob().getId());
+            if (cnt != null && memberJob.getMemberCnt() != cnt) {
+                memberJob.updateMemberCnt(cnt);
+            }
+        });
+        wanted.forEach((jobId, cnt) -> memberJobs.add(ProjectMemberJob.builder()
+                .project(project)
+                .job(jobs.get(jobId))
+                .memberCnt(cnt)
+                .build()));
+    }
+
+    private void syncProjectSkills(Project project, Set<Long> skillIds) {
+        Set<Long> wanted = skillIds == null ? new HashSet<>() : new HashSet<>(skillIds);
+        Map<Long, Skill> skills = referenceService.getSkillsByIds(wanted);
+        Set<ProjectSkill> projectSkills = project.getProjectSkills();
+
+        projectSkills.removeIf(projectSkill -> !wanted.contains(projectSkill.getSkill().getId()));
+        projectSkills.forEach(projectSkill -> wanted.remove(projectSkill.getSkill().getId()));
+        wanted.forEach(skillId -> projectSkills.add(ProjectSkill.builder()
+                .project(project)
+                .skill(skills.get(skillId))
+                .build()));
+    }
+
+    // 없는 직무가 하나라도 있으면 아무것도 바꾸기 전에 400으로 거절한다.
+    private Map<Long, Job> resolveJobs(Set<ProjectJobInputDto> jobDtos) {
+        if (jobDtos == null) {
+            return Map.of();
+        }
+        return referenceService.getJobsByIds(jobDtos.stream()
+                .map(ProjectJobInputDto::getJobId)
+                .toList());
+    }
+
+    // 같은 직무가 여러 번 오면 마지막 값을 쓴다.
+    private Map<Long, Integer> toJobCounts(Set<ProjectJobInputDto> jobDtos) {
+        Map<Long, Integer> counts = new HashMap<>();
+        if (jobDtos != null) {
+            jobDtos.forEach(jobDto -> counts.put(jobDto.getJobId(), jobDto.getCnt()));
+        }
+        return counts;
+    }
+
+    private List<ProjectCandidateDto> toCandidates(List<MatchScore> scores) {
+        Map<UUID, User> users = userService.getUserCards(scores.stream().map(MatchScore::userId).toList()).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        return scores.stream()
+                .filter(score -> users.containsKey(score.userId()))
+                .map(score -> ProjectCandidateDto.of(score, users.get(score.userId())))
+                .toList();
+    }
+
+    private Set<User> sortByJob(List<User> users) {
+        userService.loadProfiles(users);
+
+        return users.stream()
+                .sorted(Comparator
+                        .comparing((User user) -> user.getUserJobs().stream()
+                                .map(userJob -> userJob.getJob().getId())
+                                .min(Long::compareTo)
+                                .orElse(Long.MAX_VALUE)) // job_id 기준 정렬, 없으면 가장 큰 값으로
+                        .thenComparing(User::getName)) // job_id가 같으면 이름순 정렬
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    // projects PK 로 leader_id 만 읽어 확인한다.
+    /**
+     * ProjectResponseDto 에 필요한 컬렉션 중 목록 그래프에서 join 하지 않은 멤버 직무/스킬을 초기화한다.
+     * default_batch_fetch_size 덕분에 프로젝트 수와 무관하게 컬렉션 종류별로 한 번씩(100개 단위) 조회된다.
+     */
+    private List<Project> loadDetails(List<Project> projects) {
+        projects.forEach(project -> {
+            Hibernate.initialize(project.getMemberJobs());
+            Hibernate.initialize(project.getProjectSkills());
+        });
+        return projects;
+    }
+
+    private UUID checkLeader(UUID projectId) {
+        UUID leaderId = projectRepository.findLeaderIdById(projectId)
                 .orElseThrow(() -> new EmptyResultDataAccessException(1));
+        if (!leaderId.equals(userService.getCurrentUserId())) {
+            throw new AccessDeniedException(ApiStatus._NOT_LEADER);
+        }
+        return leaderId;
+    }
+
+    // 지운 행이 없을 때만 확인한다. 없는 사용자면 404, 있는 사용자면 이미 처리된 것으로 본다.
+    private void checkUserExists(UUID userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new EmptyResultDataAccessException(1);
+        }
+    }
+
+    private RuntimeException notLeader(UUID projectId) {
+        if (!projectRepository.existsById(projectId)) {
+            return new EmptyResultDataAccessException(1);
+        }
+        return new AccessDeniedException(ApiStatus._NOT_LEADER);
     }
 
     @Override
+    @Transactional
     public boolean toggleCurrentUserBookmark(String projectId) {
-        User user = userService.getCurrentUser();
-        Project project = projectRepository.findById(UUID.fromString(projectId))
-                .orElseThrow(() -> new EmptyResultDataAccessException(1));
+        UUID userId = userService.getCurrentUserId();
+        UUID id = UUID.fromString(projectId);
+        if (!projectRepository.existsById(id)) {
+            throw new EmptyResultDataAccessException(1);
+        }
         boolean isBookmarked;
 
-        if (user.getProjectBookmarks().stream().anyMatch(projectBookmark -> projectBookmark.getProject().getId().equals(project.getId()))) {
-            user.getProjectBookmarks().removeIf(projectBookmark -> projectBookmark.getProject().getId().equals(project.getId()));
-            project.setBookmarkCnt(project.getBookmarkCnt() - 1);
+        // 있으면 지우고 없으면 넣는다. 동시에 들어온 요청은 (user_id, project_id) 유니크 키로 한 건만 반영된다.
+        if (projectBookmarkRepository.deleteByProjectIdAndUserId(id, userId) > 0) {
+            projectRepository.addBookmarkCnt(id, -1);
+            eventPublisher.publishEvent(new ProjectBookmarkToggledEvent(id, false));
             isBookmarked = false;
         } else {
-            user.getProjectBookmarks().add(ProjectBookmark.builder()
-                    .project(project)
-                    .user(user)
-                    .build());
-            project.setBookmarkCnt(project.getBookmarkCnt() + 1);
+            UUID bookmarkId = UUID.randomUUID();
+            projectBookmarkRepository.insertIfAbsent(bookmarkId, id, userId);
+            if (projectBookmarkRepository.existsById(bookmarkId)) {
+                projectRepository.addBookmarkCnt(id, 1);
+                eventPublisher.publishEvent(new ProjectBookmarkToggledEvent(id, true));
+            }
             isBookmarked = true;
         }
 
-        userRepository.save(user);
-        projectRepository.save(project);
-
         return isBookmarked;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Set<Project> getCurrentUserBookmarkProjects() {
-        User user = userService.getCurrentUser();
-        return user.getProjectBookmarks().stream()
-                .map(ProjectBookmark::getProject)
-                .sorted(Comparator.comparing(Project::getCreatedAt).reversed())
-                .collect(Collectors.toCollection(LinkedHashSet::new));
+        return new LinkedHashSet<>(loadDetails(projectRepository.findAllDetailByBookmarkUserId(userService.getCurrentUserId())));
     }
 }
@@ -0,0 +1,165 @@
+package com.waggle.domain.project.trending;
+
+import com.waggle.config.AsyncConfig;
+import com.waggle.domain.project.event.ProjectAppliedEvent;
+import com.waggle.domain.project.event.ProjectBookmarkToggledEvent;
+import com.waggle.domain.project.event.ProjectDeletedEvent;
+import com.waggle.domain.project.repository.ProjectRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 최근 활동 기준 인기 프로젝트 순위. Redis ZSET 하나에 시간 감쇠 점수를 누적한다.
+ * <p>
+ * 점수는 weight * 2^((t - epoch) / halfLife) 로 더한다. 과거 활동을 매번 깎는 대신 새 활동을 키워서 넣으므로,
+ * 상대 순위는 반감기마다 절반이 되는 감쇠와 같고 조회는 ZREVRANGE 한 번이다.
+ * 값이 너무 커지지 않도록 주기적으로 전체 점수에 같은 배율을 곱하고 epoch 를 옮긴다.
+ * Redis 장애 시에는 기록을 건너뛰고 빈 순위를 돌려준다.
+ */
+@Slf4j
+@Component
+public class ProjectTrendingRanking {
+
+    private static final String KEY = "PROJECT_TRENDING";
+    private static final String EPOCH_KEY = "PROJECT_TRENDING:EPOCH";
+    private static final int MAX_SIZE = 1000;
+    // 이 값보다 작아진 점수는 순위에 의미가 없으므로 rescale 때 버린다.
+    private static final double MIN_SCORE = 0.01;
+
+    // epoch 조회와 증가를 한 번에 해야 rescale 과 겹쳐도 점수가 어긋나지 않는다.
+    private static final RedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>("""
+            local epoch = tonumber(redis.call('GET', KEYS[2]))
+            if not epoch then
+                epoch = tonumber(ARGV[3])
+                redis.call('SET', KEYS[2], ARGV[3])
+            end
+            local score = tonumber(ARGV[2]) * math.pow(2, (tonumber(ARGV[3]) - epoch) / tonumber(ARGV[4]))
+            redis.call('ZINCRBY', KEYS[1], score, ARGV[1])
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> RESCALE_SCRIPT = new DefaultRedisScript<>("""
+            local epoch = tonumber(redis.call('GET', KEYS[2]))
+            if not epoch then
+                return 0
+            end
+            local factor = math.pow(2, -(tonumber(ARGV[1]) - epoch) / tonumber(ARGV[2]))
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                redis.call('ZUNIONSTORE', KEYS[1], 1, KEYS[1], 'WEIGHTS', factor)
+                redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', '(' .. ARGV[3])
+            end
+            redis.call('SET', KEYS[2], ARGV[1])
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ProjectRepository projectRepository;
+    private final Duration halfLife;
+
+    public ProjectTrendingRanking(RedisTemplate<String, String> redisTemplate,
+                                  ProjectRepository projectRepository,
+                                  @Value("${project.trending.half-life}") Duration halfLife) {
+        this.redisTemplate = redisTemplate;
+        this.projectRepository = projectRepository;
+        this.halfLife = halfLife;
+    }
+
+    public void record(UUID projectId, TrendingSignal signal, long times) {
+        try {
+            redisTemplate.execute(RECORD_SCRIPT, List.of(KEY, EPOCH_KEY),
+                    projectId.toString(),
+                    String.valueOf(signal.getWeight() * times),
+                    String.valueOf(System.currentTimeMillis()),
+                    String.valueOf(halfLife.toMillis()));
+        } catch (RuntimeException e) {
+            log.warn("인기 점수 기록 실패: {} {}", projectId, signal, e);
+        }
+    }
+
+    /**
+     * 점수 높은 순으로 프로젝트 id 를 돌려준다. 마감 정리 주기 사이에 마감된 프로젝트가 섞일 수 있다.
+     */
+    public List<UUID> top(int size) {
+        try {
+            Set<String> members = redisTemplate.opsForZSet().reverseRange(KEY, 0, size - 1);
+            return members == null ? List.of() : members.stream().map(UUID::fromString).toList();
+        } catch (RuntimeException e) {
+            log.warn("인기 순위 조회 실패", e);
+            return List.of();
+        }
+    }
+
+    @Async(AsyncConfig.PROJECT_EVENT_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBookmarkToggled(ProjectBookmarkToggledEvent event) {
+        if (event.bookmarked()) {
+            record(event.projectId(), TrendingSignal.BOOKMARK, 1);
+        }
+    }
+
+    @Async(AsyncConfig.PROJECT_EVENT_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onApplied(ProjectAppliedEvent event) {
+        record(event.projectId(), TrendingSignal.APPLY, 1);
+    }
+
+    @Async(AsyncConfig.PROJECT_EVENT_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDeleted(ProjectDeletedEvent event) {
+        try {
+            redisTemplate.opsForZSet().remove(KEY, event.projectId().toString());
+        } catch (RuntimeException e) {
+            log.warn("인기 순위 삭제 실패: {}", event.projectId(), e);
+        }
+    }
+
+    /**
+     * 마감/삭제된 프로젝트를 빼고, 상위 MAX_SIZE 개만 남기고, 필요하면 점수 배율을 되돌린다.
+     * 여러 인스턴스에서 동시에 돌아도 결과가 같다.
+     */
+    @Scheduled(fixedDelay = 5, timeUnit = TimeUnit.MINUTES)
+    public void maintain() {
+        try {
+            redisTemplate.opsForZSet().removeRange(KEY, 0, -(MAX_SIZE + 1));
+
+            Set<String> members = redisTemplate.opsForZSet().range(KEY, 0, -1);
+            if (members != null && !members.isEmpty()) {
+                Set<UUID> open = new HashSet<>(projectRepository.findOpenIdsByIdIn(
+                        members.stream().map(UUID::fromString).toList(), LocalDateTime.now()));
+                Object[] closed = members.stream()
+                        .filter(member -> !open.contains(UUID.fromString(member)))
+                        .toArray();
+                if (closed.length > 0) {
+                    redisTemplate.opsForZSet().remove(KEY, closed);
+                }
+            }
+
+            String epoch = redisTemplate.opsForValue().get(EPOCH_KEY);
+            long now = System.currentTimeMillis();
+            if (epoch != null && now - Long.parseLong(epoch) > halfLife.toMillis()) {
+                redisTemplate.execute(RESCALE_SCRIPT, List.of(KEY, EPOCH_KEY),
+                        String.valueOf(now),
+                        String.valueOf(halfLife.toMillis()),
+                        String.valueOf(MIN_SCORE));
+            }
+        } catch (RuntimeException e) {
+            log.warn("인기 순위 정리 실패", e);
+        }
+    }
+}
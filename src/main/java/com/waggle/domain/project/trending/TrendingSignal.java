@@ -0,0 +1,17 @@
+package com.waggle.domain.project.trending;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 인기 점수에 반영되는 활동과 가중치.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TrendingSignal {
+    VIEW(1.0),      // 상세 조회
+    BOOKMARK(5.0),  // 북마크 추가
+    APPLY(10.0);    // 지원
+
+    private final double weight;
+}
@@ -0,0 +1,193 @@
+package com.waggle.domain.project.view;
+
+import com.waggle.domain.project.trending.ProjectTrendingRanking;
+import com.waggle.domain.project.trending.TrendingSignal;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 프로젝트 상세 조회 수를 노드 메모리에 모았다가 주기적으로 한 번에 반영한다.
+ * 조회 요청은 LongAdder 증가만 하고, 반영은 CASE 문 UPDATE 한 번으로 여러 프로젝트를 처리한다.
+ * 종료 시 남은 값을 모두 반영하며, 비정상 종료 시에는 마지막 주기의 조회 수가 유실될 수 있다.
+ */
+@Slf4j
+@Component
+public class ProjectViewCounter {
+
+    private static final int STATEMENT_BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProjectTrendingRanking projectTrendingRanking;
+    private final int maxPerFlush;
+
+    private final ConcurrentHashMap<UUID, PendingViews> pending = new ConcurrentHashMap<>();
+    // 맵에서 뺀 직후에 증가한 값이 있을 수 있어 한 주기 더 들고 있다가 남은 값을 반영한다.
+    private List<Map.Entry<UUID, PendingViews>> retired = new ArrayList<>();
+
+    private final Timer flushTimer;
+    private final Counter flushedCounter;
+    private final Counter errorCounter;
+
+    public ProjectViewCounter(JdbcTemplate jdbcTemplate,
+                              ProjectTrendingRanking projectTrendingRanking,
+                              MeterRegistry meterRegistry,
+                              @Value("${project.view.max-per-flush}") int maxPerFlush) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.projectTrendingRanking = projectTrendingRanking;
+        this.maxPerFlush = maxPerFlush;
+        this.flushTimer = meterRegistry.timer("project.view.flush");
+        this.flushedCounter = meterRegistry.counter("project.view.flushed");
+        this.errorCounter = meterRegistry.counter("project.view.flush.errors");
+        Gauge.builder("project.view.pending", pending, Map::size)
+                .description("반영 대기 중인 프로젝트 수")
+                .register(meterRegistry);
+        Gauge.builder("project.view.flush.lag", this, ProjectViewCounter::oldestPendingSeconds)
+                .description("가장 오래 반영되지 않은 조회 수의 대기 시간(초)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    public void increment(UUID projectId) {
+        pending.computeIfAbsent(projectId, id -> new PendingViews()).count.increment();
+    }
+
+    @Scheduled(fixedDelayString = "${project.view.flush-interval}")
+    public void flushScheduled() {
+        flush(maxPerFlush);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush(Integer.MAX_VALUE);
+        flush(Integer.MAX_VALUE); // retired 에 남은 값까지 반영
+    }
+
+    private synchronized void flush(int limit) {
+        Map<UUID, Long> counts = new HashMap<>();
+        Map<UUID, Long> firstSeen = new HashMap<>();
+        for (Map.Entry<UUID, PendingViews> entry : retired) {
+            long late = entry.getValue().count.sumThenReset();
+            if (late > 0) {
+                counts.merge(entry.getKey(), late, Long::sum);
+                firstSeen.merge(entry.getKey(), entry.getValue().firstSeenNanos, ProjectViewCounter::earlier);
+            }
+        }
+        retired = new ArrayList<>();
+
+        Iterator<UUID> ids = pending.keySet().iterator();
+        while (ids.hasNext() && counts.size() < limit) {
+            UUID id = ids.next();
+            PendingViews views = pending.remove(id);
+            if (views == null) {
+                continue;
+            }
+            retired.add(Map.entry(id, views));
+            long count = views.count.sumThenReset();
+            if (count > 0) {
+                counts.merge(id, count, Long::sum);
+                firstSeen.merge(id, views.firstSeenNanos, ProjectViewCounter::earlier);
+            }
+        }
+        if (counts.isEmpty()) {
+            return;
+        }
+
+        flushTimer.record(() -> write(counts, firstSeen));
+    }
+
+    private void write(Map<UUID, Long> counts, Map<UUID, Long> firstSeen) {
+        List<Map.Entry<UUID, Long>> entries = new ArrayList<>(counts.entrySet());
+        for (int from = 0; from < entries.size(); from += STATEMENT_BATCH_SIZE) {
+            List<Map.Entry<UUID, Long>> batch = entries.subList(from, Math.min(from + STATEMENT_BATCH_SIZE, entries.size()));
+            try {
+                update(batch);
+                batch.forEach(entry -> {
+                    flushedCounter.increment(entry.getValue());
+                    projectTrendingRanking.record(entry.getKey(), TrendingSignal.VIEW, entry.getValue());
+                });
+            } catch (RuntimeException e) {
+                // 반영하지 못한 값은 다음 주기에 다시 시도한다. 처음 쌓인 시각을 이어받아 DB 장애 중에도 flush.lag 가 늘어나게 한다.
+                log.warn("조회 수 반영 실패: {}건", batch.size(), e);
+                errorCounter.increment();
+                batch.forEach(entry -> pending.compute(entry.getKey(), (id, views) -> {
+                    long since = firstSeen.get(id);
+                    if (views == null) {
+                        views = new PendingViews(since);
+                    } else {
+                        views.firstSeenNanos = earlier(views.firstSeenNanos, since);
+                    }
+                    views.count.add(entry.getValue());
+                    return views;
+                }));
+            }
+        }
+    }
+
+    // UPDATE projects SET view_cnt = view_cnt + CASE id WHEN ? THEN ? ... END WHERE id IN (?, ...)
+    private void update(List<Map.Entry<UUID, Long>> batch) {
+        StringBuilder sql = new StringBuilder("UPDATE projects SET view_cnt = view_cnt + CASE id");
+        List<Object> args = new ArrayList<>(batch.size() * 3);
+        for (Map.Entry<UUID, Long> entry : batch) {
+            sql.append(" WHEN ? THEN ?");
+            args.add(toBytes(entry.getKey()));
+            args.add(entry.getValue());
+        }
+        sql.append(" ELSE 0 END WHERE id IN (");
+        for (int i = 0; i < batch.size(); i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+            args.add(toBytes(batch.get(i).getKey()));
+        }
+        sql.append(")");
+        jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+
+    // Hibernate 가 binary(16) 으로 저장하는 UUID 와 같은 바이트 순서
+    private byte[] toBytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+
+    private double oldestPendingSeconds() {
+        long now = System.nanoTime();
+        long oldest = pending.values().stream()
+                .mapToLong(views -> now - views.firstSeenNanos)
+                .max()
+                .orElse(0);
+        return oldest / (double) TimeUnit.SECONDS.toNanos(1);
+    }
+
+    // nanoTime 은 넘칠 수 있으므로 차이로 비교한다.
+    private static long earlier(long a, long b) {
+        return a - b <= 0 ? a : b;
+    }
+
+    private static final class PendingViews {
+        private final LongAdder count = new LongAdder();
+        // 실패한 값을 다시 넣을 때만 앞당긴다. pending.compute 안에서만 바꾼다.
+        private volatile long firstSeenNanos;
+
+        private PendingViews() {
+            this(System.nanoTime());
+        }
+
+        private PendingViews(long firstSeenNanos) {
+            this.firstSeenNanos = firstSeenNanos;
+        }
+    }
+}
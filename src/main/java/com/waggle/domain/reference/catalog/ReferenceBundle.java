@@ -0,0 +1,86 @@
+package com.waggle.domain.reference.catalog;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 참조 데이터 전체 응답(/reference/bundle)을 스냅샷을 만들 때 한 번 직렬화, 압축해 둔 바이트.
+ * <p>
+ * 요청마다 같은 배열을 그대로 내보내므로 반환된 배열은 수정하지 않는다.
+ * 압축 여부에 따라 본문이 다르므로 ETag 도 따로 둔다.
+ */
+public final class ReferenceBundle {
+
+    private final byte[] json;
+    private final byte[] gzip;
+    private final String eTag;
+
+    private ReferenceBundle(byte[] json, byte[] gzip, String eTag) {
+        this.json = json;
+        this.gzip = gzip;
+        this.eTag = eTag;
+    }
+
+    public static ReferenceBundle of(byte[] json, String version) {
+        return new ReferenceBundle(json, gzip(json), version);
+    }
+
+    public byte[] body(boolean gzipped) {
+        return gzipped ? gzip : json;
+    }
+
+    public String eTag(boolean gzipped) {
+        return gzipped ? eTag + "-gzip" : eTag;
+    }
+
+    /**
+     * Accept-Encoding 이 gzip 을 허용하는지 확인한다.
+     * gzip 항목이 있으면 그 q 값만 보고, 없을 때만 * 항목을 따른다. ("*;q=0, gzip" 은 허용, "gzip;q=0, *" 은 거절)
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double wildcardQuality = null;
+        for (String candidate : acceptEncoding.split(",")) {
+            String[] parts = candidate.trim().split(";");
+            String coding = parts[0].trim();
+            if (coding.equalsIgnoreCase("gzip")) {
+                gzipQuality = quality(parts);
+            } else if (coding.equals("*")) {
+                wildcardQuality = quality(parts);
+            }
+        }
+        Double quality = gzipQuality != null ? gzipQuality : wildcardQuality;
+        return quality != null && quality > 0;
+    }
+
+    // q 가 없으면 1, 읽을 수 없으면 거절(0)로 본다.
+    private static double quality(String[] parts) {
+        double quality = 1;
+        for (int i = 1; i < parts.length; i++) {
+            String param = parts[i].trim();
+            if (param.regionMatches(true, 0, "q=", 0, 2)) {
+                try {
+                    quality = Double.parseDouble(param.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    quality = 0;
+                }
+            }
+        }
+        return quality;
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
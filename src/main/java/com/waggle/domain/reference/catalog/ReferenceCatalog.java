@@ -0,0 +1,61 @@
+package com.waggle.domain.reference.catalog;
+
+import com.waggle.domain.reference.entity.*;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시작 시 한 번 읽어 두는 참조 데이터 전체의 불변 스냅샷.
+ * <p>
+ * 새로 읽을 때는 스냅샷을 통째로 만들어 교체하므로, 읽는 쪽은 항상 한 시점의 데이터만 본다.
+ * 담긴 엔티티는 영속성 컨텍스트와 분리된 상태이며 연관관계 대상(FK)으로만 사용하고 수정하지 않는다.
+ */
+@Getter
+@Builder(toBuilder = true)
+public class ReferenceCatalog {
+
+    private final ReferenceTable<PortfolioUrl> portfolioUrls;
+    private final ReferenceTable<Industry> industries;
+    private final ReferenceTable<Job> jobs;
+    private final ReferenceTable<Skill> skills;
+    private final ReferenceTable<DurationOfWorking> durationOfWorkings;
+    private final ReferenceTable<WaysOfWorking> waysOfWorkings;
+    private final ReferenceTable<WeekDays> weekDays;
+    private final ReferenceTable<TimeOfWorking> timeOfWorkings;
+    private final ReferenceTable<MainIntroduce> mainIntroduces;
+    private final ReferenceTable<SubIntroduce> subIntroduces;
+    // 시/도는 id 가 문자열 코드("11")라 배열 대신 Map 으로 둔다.
+    private final SidoTable sidoes;
+    // 전체 목록 내용으로 계산한 값. 내용이 같으면 서버가 달라도 같으며, 참조 데이터 응답의 ETag 로 쓴다.
+    private final String version;
+    private final ReferenceBundle bundle;
+
+    /**
+     * @return 종류별 전체 목록
+     */
+    public Map<String, List<?>> tables() {
+        Map<String, List<?>> tables = new LinkedHashMap<>();
+        tables.put("portfolio_url", portfolioUrls.all());
+        tables.put("industry", industries.all());
+        tables.put("job", jobs.all());
+        tables.put("skill", skills.all());
+        tables.put("dow", durationOfWorkings.all());
+        tables.put("wow", waysOfWorkings.all());
+        tables.put("week_days", weekDays.all());
+        tables.put("tow", timeOfWorkings.all());
+        tables.put("main_introduce", mainIntroduces.all());
+        tables.put("sub_introduce", subIntroduces.all());
+        tables.put("sido", sidoes.all());
+        return tables;
+    }
+
+    public Map<String, Integer> sizes() {
+        Map<String, Integer> sizes = new LinkedHashMap<>();
+        tables().forEach((name, rows) -> sizes.put(name, rows.size()));
+        return sizes;
+    }
+}
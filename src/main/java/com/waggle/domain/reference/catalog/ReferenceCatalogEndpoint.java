@@ -0,0 +1,30 @@
+package com.waggle.domain.reference.catalog;
+
+import com.waggle.domain.reference.service.ReferenceService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 참조 데이터를 DB 에서 다시 읽어 메모리 스냅샷을 교체하는 관리용 엔드포인트. (POST /actuator/referencecatalog)
+ */
+@Component
+@Endpoint(id = "referencecatalog")
+@RequiredArgsConstructor
+public class ReferenceCatalogEndpoint {
+
+    private final ReferenceService referenceService;
+
+    @WriteOperation
+    public Map<String, Object> refresh() {
+        long start = System.currentTimeMillis();
+        ReferenceCatalog catalog = referenceService.refreshCatalog();
+        return Map.of(
+                "loaded", catalog.sizes(),
+                "elapsed_ms", System.currentTimeMillis() - start
+        );
+    }
+}
@@ -0,0 +1,97 @@
+package com.waggle.domain.reference.catalog;
+
+import org.springframework.dao.EmptyResultDataAccessException;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * id 로 바로 찾을 수 있는 참조 데이터 한 종류의 불변 스냅샷.
+ * <p>
+ * 참조 데이터의 id 는 1부터 촘촘히 매겨지므로 id 를 그대로 배열 인덱스로 쓴다.
+ * id 가 행 수에 비해 지나치게 크면 메모리를 아끼기 위해 Map 으로 대신한다.
+ */
+public final class ReferenceTable<T> {
+
+    // 빈 칸 비율이 이 배수를 넘으면 배열 대신 Map 을 쓴다.
+    private static final int MAX_SPARSITY = 4;
+    private static final int MIN_ARRAY_LENGTH = 64;
+
+    private final String name;
+    private final List<T> all;
+    private final Object[] byId;
+    private final Map<Long, T> byIdMap;
+
+    private ReferenceTable(String name, List<T> all, Object[] byId, Map<Long, T> byIdMap) {
+        this.name = name;
+        this.all = all;
+        this.byId = byId;
+        this.byIdMap = byIdMap;
+    }
+
+    public static <T> ReferenceTable<T> of(String name, List<T> rows, Function<T, Long> idOf) {
+        List<T> sorted = rows.stream()
+                .sorted(Comparator.comparing(idOf))
+                .toList();
+        long maxId = sorted.isEmpty() ? 0 : idOf.apply(sorted.get(sorted.size() - 1));
+        if (maxId < Math.max((long) sorted.size() * MAX_SPARSITY, MIN_ARRAY_LENGTH)) {
+            Object[] byId = new Object[(int) maxId + 1];
+            sorted.forEach(row -> byId[Math.toIntExact(idOf.apply(row))] = row);
+            return new ReferenceTable<>(name, sorted, byId, null);
+        }
+        Map<Long, T> byIdMap = new HashMap<>();
+        sorted.forEach(row -> byIdMap.put(idOf.apply(row), row));
+        return new ReferenceTable<>(name, sorted, null, Map.copyOf(byIdMap));
+    }
+
+    /**
+     * @return id 순으로 정렬된 전체 목록 (수정 불가)
+     */
+    public List<T> all() {
+        return all;
+    }
+
+    public int size() {
+        return all.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    public Optional<T> find(Long id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        if (byId == null) {
+            return Optional.ofNullable(byIdMap.get(id));
+        }
+        return id >= 0 && id < byId.length ? Optional.ofNullable((T) byId[(int) (long) id]) : Optional.empty();
+    }
+
+    public T get(Long id) {
+        return find(id).orElseThrow(() -> new EmptyResultDataAccessException(1));
+    }
+
+    /**
+     * 여러 id 를 한 번에 찾는다. 하나라도 없으면 아무것도 반환하지 않고 없는 id 를 모두 담아 예외를 던진다.
+     *
+     * @return 요청 순서를 유지한 id -> 값 (중복 id 는 하나로 합친다)
+     */
+    public Map<Long, T> resolve(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, T> resolved = new LinkedHashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long id : ids) {
+            Optional<T> row = find(id);
+            if (row.isPresent()) {
+                resolved.put(id, row.get());
+            } else {
+                missing.add(id);
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("존재하지 않는 " + name + "입니다: " + missing);
+        }
+        return resolved;
+    }
+}
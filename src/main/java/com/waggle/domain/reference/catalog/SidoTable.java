@@ -0,0 +1,48 @@
+package com.waggle.domain.reference.catalog;
+
+import com.waggle.domain.reference.entity.Sido;
+import org.springframework.dao.EmptyResultDataAccessException;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 시/도 코드로 찾는 불변 스냅샷.
+ */
+public final class SidoTable {
+
+    private final List<Sido> all;
+    private final Map<String, Sido> byId;
+
+    private SidoTable(List<Sido> all, Map<String, Sido> byId) {
+        this.all = all;
+        this.byId = byId;
+    }
+
+    public static SidoTable of(List<Sido> rows) {
+        List<Sido> sorted = rows.stream()
+                .sorted(Comparator.comparing(Sido::getId))
+                .toList();
+        return new SidoTable(sorted, Map.copyOf(sorted.stream()
+                .collect(Collectors.toMap(Sido::getId, Function.identity()))));
+    }
+
+    public List<Sido> all() {
+        return all;
+    }
+
+    public int size() {
+        return all.size();
+    }
+
+    public Sido get(String id) {
+        Sido sido = id == null ? null : byId.get(id);
+        if (sido == null) {
+            throw new EmptyResultDataAccessException(1);
+        }
+        return sido;
+    }
+}
@@ -1,10 +1,12 @@
 package com.waggle.domain.reference.controller;
 
+import com.waggle.domain.reference.catalog.ReferenceBundle;
+import com.waggle.domain.reference.entity.*;
 import com.waggle.domain.reference.service.ReferenceService;
 import com.waggle.global.response.ApiStatus;
 import com.waggle.global.response.BaseResponse;
+import com.waggle.global.response.ConditionalResponse;
 import com.waggle.global.response.ErrorResponse;
-import com.waggle.global.response.SuccessResponse;
 import com.waggle.global.response.swagger.*;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -12,19 +14,38 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 참조 데이터는 메모리 스냅샷에서 응답하며, 스냅샷 버전을 ETag 로 붙인다.
+ * If-None-Match 가 같으면 목록을 꺼내기 전에 304 로 응답한다.
+ */
 @Tag(name = "참조 데이터", description = "참조 데이터 관련 API")
 @RestController
 @RequestMapping("/reference")
-@RequiredArgsConstructor
 public class ReferenceController {
 
     private final ReferenceService referenceService;
+    private final CacheControl cacheControl;
+
+    public ReferenceController(ReferenceService referenceService,
+                               @Value("${reference.cache.max-age}") Duration maxAge) {
+        this.referenceService = referenceService;
+        this.cacheControl = CacheControl.maxAge(maxAge).cachePublic();
+    }
 
     @GetMapping("/industrial")
     @Operation(summary = "산업 분야 조회", description = "산업 분야를 전부 조회합니다.")
@@ -32,8 +53,10 @@ public class ReferenceController {
             @ApiResponse(responseCode = "200", description = "산업 분야 조회 성공", content = @Content(schema = @Schema(implementation = IndustriesSuccessResponse.class))),
             @ApiResponse(responseCode = "404", description = "산업 분야가 존재하지 않음", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
-    public ResponseEntity<BaseResponse<Object>> fetchIndustrial() {
-        return SuccessResponse.of(ApiStatus._OK, referenceService.getIndustrials());
+    public ResponseEntity<BaseResponse<List<Industry>>> fetchIndustrial(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        return cached(ifNoneMatch, referenceService::getIndustrials);
     }
 
     @GetMapping("/skill")
@@ -42,8 +65,10 @@ public class ReferenceController {
             @ApiResponse(responseCode = "200", description = "기술 조회 성공", content = @Content(schema = @Schema(implementation = SkillsSuccessResponse.class))),
             @ApiResponse(responseCode = "404", description = "기술이 존재하지 않음", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
-    public ResponseEntity<BaseResponse<Object>> fetchSkill() {
-        return SuccessResponse.of(ApiStatus._OK, referenceService.getSkills());
+    public ResponseEntity<BaseResponse<List<Skill>>> fetchSkill(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        return cached(ifNoneMatch, referenceService::getSkills);
     }
 
     @GetMapping("/job")
@@ -52,8 +77,10 @@ public class ReferenceController {
             @ApiResponse(responseCode = "200", description = "직무 조회 성공", content = @Content(schema = @Schema(implementation = JobsSuccessResponse.class))),
             @ApiResponse(responseCode = "404", description = "직무가 존재하지 않음", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
-    public ResponseEntity<BaseResponse<Object>> fetchJob() {
-        return SuccessResponse.of(ApiStatus._OK, referenceService.getJobs());
+    public ResponseEntity<BaseResponse<List<Job>>> fetchJob(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        return cached(ifNoneMatch, referenceService::getJobs);
     }
 
     @GetMapping("/week-days")
@@ -62,8 +89,10 @@ public class ReferenceController {
             @ApiResponse(responseCode = "200", description = "요일 조회 성공", content = @Content(schema = @Schema(implementation = WeekDaysSuccessResponse.class))),
             @ApiResponse(responseCode = "404", description = "요일이 존재하지 않음", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
-    public ResponseEntity<BaseResponse<Object>> fetchWeekDays() {
-        return SuccessResponse.of(ApiStatus._OK, referenceService.getWeekDays());
+    public ResponseEntity<BaseResponse<List<WeekDays>>> fetchWeekDays(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        return cached(ifNoneMatch, referenceService::getWeekDays);
     }
 
     @GetMapping("/tow")
@@ -72,8 +101,10 @@ public class ReferenceController {
             @ApiResponse(responseCode = "200", description = "진행 시간대 조회 성공", content = @Content(schema = @Schema(implementation = TimeOfWorkingsSuccessResponse.class))),
             @ApiResponse(responseCode = "404", description = "진행 시간대가 존재하지 않음", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
-    public ResponseEntity<BaseResponse<Object>> fetchTimezone() {
-        return SuccessResponse.of(ApiStatus._OK, referenceService.getTimeOfWorkings());
+    public ResponseEntity<BaseResponse<List<TimeOfWorking>>> fetchTimezone(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        return cached(ifNoneMatch, referenceService::getTimeOfWorkings);
     }
 
     @GetMapping("/dow")
@@ -82,8 +113,10 @@ public class ReferenceController {
             @ApiResponse(responseCode = "200", description = "작업 기간 조회 성공", content = @Content(schema = @Schema(implementation = DurationOfWorkingsSuccessResponse.class))),
             @ApiResponse(responseCode = "404", description = "작업 기간이 존재하지 않음", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
-    public ResponseEntity<BaseResponse<Object>> fetchDurationOfWorking() {
-        return SuccessResponse.of(ApiStatus._OK, referenceService.getDurationOfWorkings());
+    public ResponseEntity<BaseResponse<List<DurationOfWorking>>> fetchDurationOfWorking(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        return cached(ifNoneMatch, referenceService::getDurationOfWorkings);
     }
 
     @GetMapping("/wow")
@@ -92,8 +125,10 @@ public class ReferenceController {
             @ApiResponse(responseCode = "200", description = "근무 방식 조회 성공", content = @Content(schema = @Schema(implementation = WaysOfWorkingsSuccessResponse.class))),
             @ApiResponse(responseCode = "404", description = "근무 방식이 존재하지 않음", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
-    public ResponseEntity<BaseResponse<Object>> fetchWaysOfWorking() {
-        return SuccessResponse.of(ApiStatus._OK, referenceService.getWaysOfWorkings());
+    public ResponseEntity<BaseResponse<List<WaysOfWorking>>> fetchWaysOfWorking(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        return cached(ifNoneMatch, referenceService::getWaysOfWorkings);
     }
 
     @GetMapping("/area/sido")
@@ -102,8 +137,10 @@ public class ReferenceController {
             @ApiResponse(responseCode = "200", description = "시/도 조회 성공", content = @Content(schema = @Schema(implementation = SidosSuccessResponse.class))),
             @ApiResponse(responseCode = "404", description = "시/도가 존재하지 않음", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
-    public ResponseEntity<BaseResponse<Object>> fetchSido() {
-        return SuccessResponse.of(ApiStatus._OK, referenceService.getSidoes());
+    public ResponseEntity<BaseResponse<List<Sido>>> fetchSido(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        return cached(ifNoneMatch, referenceService::getSidoes);
     }
 
     @GetMapping("/portfolio-url")
@@ -112,8 +149,10 @@ public class ReferenceController {
             @ApiResponse(responseCode = "200", description = "포트폴리오 링크 종류 조회 성공", content = @Content(schema = @Schema(implementation = PortfolioUrlsSuccessResponse.class))),
             @ApiResponse(responseCode = "404", description = "포트폴리오 링크 종류가 존재하지 않음", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
-    public ResponseEntity<BaseResponse<Object>> fetchPortfolioUrl() {
-        return SuccessResponse.of(ApiStatus._OK, referenceService.getPortfolioUrls());
+    public ResponseEntity<BaseResponse<List<PortfolioUrl>>> fetchPortfolioUrl(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        return cached(ifNoneMatch, referenceService::getPortfolioUrls);
     }
 
     @GetMapping("/main-introduce")
@@ -122,8 +161,10 @@ public class ReferenceController {
             @ApiResponse(responseCode = "200", description = "대분류 키워드 조회 성공", content = @Content(schema = @Schema(implementation = MainIntroducesSuccessResponse.class))),
             @ApiResponse(responseCode = "404", description = "자기소개 대분류 키워드가 존재하지 않음", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
-    public ResponseEntity<BaseResponse<Object>> fetchMainIntroduce() {
-        return SuccessResponse.of(ApiStatus._OK, referenceService.getMainIntroduces());
+    public ResponseEntity<BaseResponse<List<MainIntroduce>>> fetchMainIntroduce(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        return cached(ifNoneMatch, referenceService::getMainIntroduces);
     }
 
     @GetMapping("/sub-introduce")
@@ -132,7 +173,58 @@ public class ReferenceController {
             @ApiResponse(responseCode = "200", description = "자기소개 소분류 키워드 조회 성공", content = @Content(schema = @Schema(implementation = SubIntroducesSuccessResponse.class))),
             @ApiResponse(responseCode = "404", description = "자기소개 소분류 키워드가 존재하지 않음", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
-    public ResponseEntity<BaseResponse<Object>> fetchSubIntroduce() {
-        return SuccessResponse.of(ApiStatus._OK, referenceService.getSubIntroduces());
+    public ResponseEntity<BaseResponse<List<SubIntroduce>>> fetchSubIntroduce(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        return cached(ifNoneMatch, referenceService::getSubIntroduces);
+    }
+
+    @GetMapping("/bundle")
+    @Operation(
+            summary = "참조 데이터 전체 조회",
+            description = """
+            산업 분야, 기술, 직무, 요일, 진행 시간대/기간/방식, 시/도, 포트폴리오 링크 종류, 자기소개 키워드를 한 번에 조회합니다.
+            
+            응답은 참조 데이터를 읽을 때 미리 만들어 두므로 timestamp 는 그 시점입니다. Accept-Encoding 에 gzip 이 있으면 gzip 으로 압축해 응답합니다.
+            """
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "참조 데이터 전체 조회 성공", content = @Content(schema = @Schema(implementation = ReferenceBundleSuccessResponse.class))),
+            @ApiResponse(responseCode = "304", description = "If-None-Match 의 ETag 와 같아 본문 없이 응답")
+    })
+    public ResponseEntity<byte[]> fetchBundle(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        ReferenceBundle bundle = referenceService.getBundle();
+        boolean gzipped = ReferenceBundle.acceptsGzip(acceptEncoding);
+        String eTag = bundle.eTag(gzipped);
+        if (ConditionalResponse.isNotModified(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(cacheControl)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        byte[] body = bundle.body(gzipped);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .contentLength(body.length)
+                .eTag(eTag)
+                .cacheControl(cacheControl)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzipped) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    private <T> ResponseEntity<BaseResponse<T>> cached(String ifNoneMatch, Supplier<T> data) {
+        String eTag = referenceService.getCatalogVersion();
+        if (ConditionalResponse.isNotModified(ifNoneMatch, eTag)) {
+            return ConditionalResponse.notModified(eTag, cacheControl);
+        }
+        return ConditionalResponse.of(ApiStatus._OK, data.get(), eTag, cacheControl);
     }
 }
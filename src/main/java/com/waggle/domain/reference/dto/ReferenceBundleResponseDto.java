@@ -0,0 +1,76 @@
+package com.waggle.domain.reference.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.waggle.domain.reference.catalog.ReferenceCatalog;
+import com.waggle.domain.reference.entity.*;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@Schema(description = "참조 데이터 전체 응답 dto")
+public class ReferenceBundleResponseDto {
+
+    @Schema(description = "산업 분야")
+    @JsonProperty("industry")
+    private List<Industry> industries;
+
+    @Schema(description = "사용 기술")
+    @JsonProperty("skill")
+    private List<Skill> skills;
+
+    @Schema(description = "직무")
+    @JsonProperty("job")
+    private List<Job> jobs;
+
+    @Schema(description = "요일")
+    @JsonProperty("week_days")
+    private List<WeekDays> weekDays;
+
+    @Schema(description = "진행 시간대")
+    @JsonProperty("tow")
+    private List<TimeOfWorking> timeOfWorkings;
+
+    @Schema(description = "진행 기간")
+    @JsonProperty("dow")
+    private List<DurationOfWorking> durationOfWorkings;
+
+    @Schema(description = "진행 방식")
+    @JsonProperty("wow")
+    private List<WaysOfWorking> waysOfWorkings;
+
+    @Schema(description = "시/도")
+    @JsonProperty("sido")
+    private List<Sido> sidoes;
+
+    @Schema(description = "포트폴리오 링크 종류")
+    @JsonProperty("portfolio_url")
+    private List<PortfolioUrl> portfolioUrls;
+
+    @Schema(description = "자기소개 키워드 대분류")
+    @JsonProperty("main_introduce")
+    private List<MainIntroduce> mainIntroduces;
+
+    @Schema(description = "자기소개 키워드 소분류")
+    @JsonProperty("sub_introduce")
+    private List<SubIntroduce> subIntroduces;
+
+    public static ReferenceBundleResponseDto from(ReferenceCatalog catalog) {
+        return ReferenceBundleResponseDto.builder()
+                .industries(catalog.getIndustries().all())
+                .skills(catalog.getSkills().all())
+                .jobs(catalog.getJobs().all())
+                .weekDays(catalog.getWeekDays().all())
+                .timeOfWorkings(catalog.getTimeOfWorkings().all())
+                .durationOfWorkings(catalog.getDurationOfWorkings().all())
+                .waysOfWorkings(catalog.getWaysOfWorkings().all())
+                .sidoes(catalog.getSidoes().all())
+                .portfolioUrls(catalog.getPortfolioUrls().all())
+                .mainIntroduces(catalog.getMainIntroduces().all())
+                .subIntroduces(catalog.getSubIntroduces().all())
+                .build();
+    }
+}
@@ -1,25 +1,34 @@
 package com.waggle.domain.reference.service;
 
+import com.waggle.domain.reference.catalog.ReferenceBundle;
+import com.waggle.domain.reference.catalog.ReferenceCatalog;
 import com.waggle.domain.reference.entity.*;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface ReferenceService {
 
     List<PortfolioUrl> getPortfolioUrls();
     PortfolioUrl getPortfolioUrlById(Long id);
+    Map<Long, PortfolioUrl> getPortfolioUrlsByIds(Collection<Long> ids);
     List<Industry> getIndustrials();
     Industry getIndustryById(Long id);
+    Map<Long, Industry> getIndustriesByIds(Collection<Long> ids);
     List<Job> getJobs();
     Job getJobById(Long id);
+    Map<Long, Job> getJobsByIds(Collection<Long> ids);
     List<Skill> getSkills();
     Skill getSkillById(Long id);
+    Map<Long, Skill> getSkillsByIds(Collection<Long> ids);
     List<DurationOfWorking> getDurationOfWorkings();
     DurationOfWorking getDurationOfWorkingById(Long id);
     List<WaysOfWorking> getWaysOfWorkings();
     WaysOfWorking getWaysOfWorkingById(Long id);
     List<WeekDays> getWeekDays();
     WeekDays getWeekDaysById(Long id);
+    Map<Long, WeekDays> getWeekDaysByIds(Collection<Long> ids);
     List<TimeOfWorking> getTimeOfWorkings();
     TimeOfWorking getTimeOfWorkingById(Long id);
     List<Sido> getSidoes();
@@ -28,4 +37,8 @@ public interface ReferenceService {
     MainIntroduce getMainIntroduceById(Long id);
     List<SubIntroduce> getSubIntroduces();
     SubIntroduce getSubIntroduceById(Long id);
+    Map<Long, SubIntroduce> getSubIntroducesByIds(Collection<Long> ids);
+    String getCatalogVersion();
+    ReferenceBundle getBundle();
+    ReferenceCatalog refreshCatalog();
 }
@@ -1,13 +1,34 @@
 package com.waggle.domain.reference.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.waggle.domain.reference.catalog.ReferenceBundle;
+import com.waggle.domain.reference.catalog.ReferenceCatalog;
+import com.waggle.domain.reference.catalog.ReferenceTable;
+import com.waggle.domain.reference.catalog.SidoTable;
+import com.waggle.domain.reference.dto.ReferenceBundleResponseDto;
 import com.waggle.domain.reference.entity.*;
 import com.waggle.domain.reference.repository.*;
+import com.waggle.global.response.ApiStatus;
+import com.waggle.global.response.SuccessResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.DigestUtils;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
+/**
+ * 참조 데이터는 수백 행 규모이고 거의 바뀌지 않으므로 전부 메모리(ReferenceCatalog)에 올려 두고 조회한다.
+ * 데이터를 바꾼 뒤에는 refreshCatalog(POST /actuator/referencecatalog)로 스냅샷을 교체한다.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ReferenceServiceImpl implements ReferenceService {
@@ -23,169 +44,225 @@ public class ReferenceServiceImpl implements ReferenceService {
     private final SidoRepository sidoRepository;
     private final MainIntroduceRepository mainIntroduceRepository;
     private final SubIntroduceRepository subIntroduceRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    private volatile ReferenceCatalog catalog;
 
     @Override
     public List<PortfolioUrl> getPortfolioUrls() {
-        List<PortfolioUrl> portfolioUrls = portfolioUrlRepository.findAll();
-        if (portfolioUrls.isEmpty()) {
-            throw new EmptyResultDataAccessException(1);
-        }
-        return portfolioUrls;
+        return nonEmpty(catalog().getPortfolioUrls().all());
     }
 
     @Override
     public PortfolioUrl getPortfolioUrlById(Long id) {
-        return portfolioUrlRepository.findById(id)
-                .orElseThrow(() -> new EmptyResultDataAccessException(1));
+        return catalog().getPortfolioUrls().get(id);
+    }
+
+    @Override
+    public Map<Long, PortfolioUrl> getPortfolioUrlsByIds(Collection<Long> ids) {
+        return catalog().getPortfolioUrls().resolve(ids);
     }
 
     @Override
     public List<Industry> getIndustrials() {
-        List<Industry> industries = industryRepository.findAll();
-        if (industries.isEmpty()) {
-            throw new EmptyResultDataAccessException(1);
-        }
-        return industries;
+        return nonEmpty(catalog().getIndustries().all());
     }
 
     @Override
     public Industry getIndustryById(Long id) {
-        return industryRepository.findById(id)
-                .orElseThrow(() -> new EmptyResultDataAccessException(1));
+        return catalog().getIndustries().get(id);
+    }
+
+    @Override
+    public Map<Long, Industry> getIndustriesByIds(Collection<Long> ids) {
+        return catalog().getIndustries().resolve(ids);
     }
 
     @Override
     public List<Job> getJobs() {
-        List<Job> jobs = jobRepository.findAll();
-        if (jobs.isEmpty()) {
-            throw new EmptyResultDataAccessException(1);
-        }
-        return jobs;
+        return nonEmpty(catalog().getJobs().all());
     }
 
     @Override
     public Job getJobById(Long id) {
-        return jobRepository.findById(id)
-                .orElseThrow(() -> new EmptyResultDataAccessException(1));
+        return catalog().getJobs().get(id);
+    }
+
+    @Override
+    public Map<Long, Job> getJobsByIds(Collection<Long> ids) {
+        return catalog().getJobs().resolve(ids);
     }
 
     @Override
     public List<Skill> getSkills() {
-        List<Skill> skills = skillRepository.findAll();
-        if (skills.isEmpty()) {
-            throw new EmptyResultDataAccessException(1);
-        }
-        return skills;
+        return nonEmpty(catalog().getSkills().all());
     }
 
     @Override
     public Skill getSkillById(Long id) {
-        return skillRepository.findById(id)
-                .orElseThrow(() -> new EmptyResultDataAccessException(1));
+        return catalog().getSkills().get(id);
+    }
+
+    @Override
+    public Map<Long, Skill> getSkillsByIds(Collection<Long> ids) {
+        return catalog().getSkills().resolve(ids);
     }
 
     @Override
     public List<DurationOfWorking> getDurationOfWorkings() {
-        List<DurationOfWorking> durationOfWorkings = durationOfWorkingRepository.findAll();
-        if (durationOfWorkings.isEmpty()) {
-            throw new EmptyResultDataAccessException(1);
-        }
-        return durationOfWorkings;
+        return nonEmpty(catalog().getDurationOfWorkings().all());
     }
 
     @Override
     public DurationOfWorking getDurationOfWorkingById(Long id) {
-        return durationOfWorkingRepository.findById(id)
-                .orElseThrow(() -> new EmptyResultDataAccessException(1));
+        return catalog().getDurationOfWorkings().get(id);
     }
 
     @Override
     public List<WaysOfWorking> getWaysOfWorkings() {
-        List<WaysOfWorking> waysOfWorkings = waysOfWorkingRepository.findAll();
-        if (waysOfWorkings.isEmpty()) {
-            throw new EmptyResultDataAccessException(1);
-        }
-        return waysOfWorkings;
+        return nonEmpty(catalog().getWaysOfWorkings().all());
     }
 
     @Override
     public WaysOfWorking getWaysOfWorkingById(Long id) {
-        return waysOfWorkingRepository.findById(id)
-                .orElseThrow(() -> new EmptyResultDataAccessException(1));
+        return catalog().getWaysOfWorkings().get(id);
     }
 
     @Override
     public List<WeekDays> getWeekDays() {
-        List<WeekDays> weekDays = weekDaysRepository.findAll();
-        if (weekDays.isEmpty()) {
-            throw new EmptyResultDataAccessException(1);
-        }
-        return weekDays;
+        return nonEmpty(catalog().getWeekDays().all());
     }
 
     @Override
     public WeekDays getWeekDaysById(Long id) {
-        return weekDaysRepository.findById(id)
-                .orElseThrow(() -> new EmptyResultDataAccessException(1));
+        return catalog().getWeekDays().get(id);
+    }
+
+    @Override
+    public Map<Long, WeekDays> getWeekDaysByIds(Collection<Long> ids) {
+        return catalog().getWeekDays().resolve(ids);
     }
 
     @Override
     public List<TimeOfWorking> getTimeOfWorkings() {
-        List<TimeOfWorking> timeOfWorkings = timeOfWorkingRepository.findAll();
-        if (timeOfWorkings.isEmpty()) {
-            throw new EmptyResultDataAccessException(1);
-        }
-        return timeOfWorkings;
+        return nonEmpty(catalog().getTimeOfWorkings().all());
     }
 
     @Override
     public TimeOfWorking getTimeOfWorkingById(Long id) {
-        return timeOfWorkingRepository.findById(id)
-                .orElseThrow(() -> new EmptyResultDataAccessException(1));
+        return catalog().getTimeOfWorkings().get(id);
     }
 
     @Override
     public List<Sido> getSidoes() {
-        List<Sido> sidoes = sidoRepository.findAll();
-        if (sidoes.isEmpty()) {
-            throw new EmptyResultDataAccessException(1);
-        }
-        return sidoes;
+        return nonEmpty(catalog().getSidoes().all());
     }
 
     @Override
     public Sido getSidoesById(String id) {
-        return sidoRepository.findById(id)
-                .orElseThrow(() -> new EmptyResultDataAccessException(1));
+        return catalog().getSidoes().get(id);
     }
 
     @Override
     public List<MainIntroduce> getMainIntroduces() {
-        List<MainIntroduce> mainIntroduces = mainIntroduceRepository.findAll();
-        if (mainIntroduces.isEmpty()) {
-            throw new EmptyResultDataAccessException(1);
-        }
-        return mainIntroduces;
+        return nonEmpty(catalog().getMainIntroduces().all());
     }
 
     @Override
     public MainIntroduce getMainIntroduceById(Long id) {
-        return mainIntroduceRepository.findById(id)
-                .orElseThrow(() -> new EmptyResultDataAccessException(1));
+        return catalog().getMainIntroduces().get(id);
     }
 
     @Override
     public List<SubIntroduce> getSubIntroduces() {
-        List<SubIntroduce> subIntroduces = subIntroduceRepository.findAll();
-        if (subIntroduces.isEmpty()) {
-            throw new EmptyResultDataAccessException(1);
-        }
-        return subIntroduces;
+        return nonEmpty(catalog().getSubIntroduces().all());
     }
 
     @Override
     public SubIntroduce getSubIntroduceById(Long id) {
-        return subIntroduceRepository.findById(id)
-                .orElseThrow(() -> new EmptyResultDataAccessException(1));
+        return catalog().getSubIntroduces().get(id);
+    }
+
+    @Override
+    public Map<Long, SubIntroduce> getSubIntroducesByIds(Collection<Long> ids) {
+        return catalog().getSubIntroduces().resolve(ids);
+    }
+
+    @Override
+    public String getCatalogVersion() {
+        return catalog().getVersion();
+    }
+
+    @Override
+    public ReferenceBundle getBundle() {
+        return catalog().getBundle();
+    }
+
+    /**
+     * DB 에서 새 스냅샷을 만든 뒤 한 번에 교체한다. 읽는 도중 실패하면 기존 스냅샷을 그대로 쓴다.
+     */
+    @Override
+    public synchronized ReferenceCatalog refreshCatalog() {
+        ReferenceCatalog loaded = load();
+        catalog = loaded;
+        log.info("참조 데이터 로딩 완료: {}", loaded.sizes());
+        return loaded;
+    }
+
+    // data.sql 은 JPA 초기화 이후에 실행되므로 빈 생성 시점이 아니라 기동 완료 후에 읽는다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (catalog == null) {
+            refreshCatalog();
+        }
+    }
+
+    // 기동 완료 전에 호출되면 그 자리에서 읽는다.
+    private ReferenceCatalog catalog() {
+        ReferenceCatalog current = catalog;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            return catalog != null ? catalog : refreshCatalog();
+        }
+    }
+
+    // 한 트랜잭션에서 읽어 소분류와 대분류가 같은 인스턴스를 가리키게 한다.
+    private ReferenceCatalog load() {
+        ReferenceCatalog loaded = transactionTemplate.execute(status -> ReferenceCatalog.builder()
+                .portfolioUrls(ReferenceTable.of("포트폴리오 링크 종류", portfolioUrlRepository.findAll(), PortfolioUrl::getId))
+                .industries(ReferenceTable.of("산업 분야", industryRepository.findAll(), Industry::getId))
+                .jobs(ReferenceTable.of("직무", jobRepository.findAll(), Job::getId))
+                .skills(ReferenceTable.of("스킬", skillRepository.findAll(), Skill::getId))
+                .durationOfWorkings(ReferenceTable.of("진행 기간", durationOfWorkingRepository.findAll(), DurationOfWorking::getId))
+                .waysOfWorkings(ReferenceTable.of("진행 방식", waysOfWorkingRepository.findAll(), WaysOfWorking::getId))
+                .weekDays(ReferenceTable.of("요일", weekDaysRepository.findAll(), WeekDays::getId))
+                .timeOfWorkings(ReferenceTable.of("진행 시간대", timeOfWorkingRepository.findAll(), TimeOfWorking::getId))
+                .mainIntroduces(ReferenceTable.of("자기소개 대분류 키워드", mainIntroduceRepository.findAll(), MainIntroduce::getId))
+                .subIntroduces(ReferenceTable.of("자기소개 키워드", subIntroduceRepository.findAll(), SubIntroduce::getId))
+                .sidoes(SidoTable.of(sidoRepository.findAll()))
+                .build());
+        // 전체 응답을 여기서 한 번만 직렬화, 압축해 두고 버전도 그 내용으로 계산한다.
+        ReferenceBundleResponseDto payload = ReferenceBundleResponseDto.from(loaded);
+        try {
+            String version = DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(payload));
+            byte[] body = objectMapper.writeValueAsBytes(
+                    new SuccessResponse<>(ApiStatus._OK.getCode(), ApiStatus._OK.getMessage(), payload));
+            return loaded.toBuilder()
+                    .version(version)
+                    .bundle(ReferenceBundle.of(body, version))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("참조 데이터 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    private static <T> List<T> nonEmpty(List<T> rows) {
+        if (rows.isEmpty()) {
+            throw new EmptyResultDataAccessException(1);
+        }
+        return rows;
     }
 }
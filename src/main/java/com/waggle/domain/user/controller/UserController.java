@@ -2,16 +2,24 @@ package com.waggle.domain.user.controller;
 
 import com.waggle.domain.project.dto.ProjectResponseDto;
 import com.waggle.domain.project.entity.Project;
+import com.waggle.domain.user.dto.ProfileImageUploadInputDto;
+import com.waggle.domain.user.dto.ProfileImageUploadResponseDto;
 import com.waggle.domain.user.dto.UserInputDto;
 import com.waggle.domain.user.dto.UserResponseDto;
+import com.waggle.domain.user.dto.UserSearchCondition;
+import com.waggle.domain.user.dto.UserSearchCursor;
+import com.waggle.domain.user.dto.UserSearchResponseDto;
 import com.waggle.domain.user.entity.User;
+import com.waggle.domain.user.image.ProfileImageUpload;
 import com.waggle.domain.user.service.UserService;
 import com.waggle.global.response.ApiStatus;
 import com.waggle.global.response.BaseResponse;
 import com.waggle.global.response.ErrorResponse;
 import com.waggle.global.response.SuccessResponse;
+import com.waggle.global.response.swagger.ProfileImageUploadSuccessResponse;
 import com.waggle.global.response.swagger.ProjectSuccessResponse;
 import com.waggle.global.response.swagger.ProjectsSuccessResponse;
+import com.waggle.global.response.swagger.UserSearchSuccessResponse;
 import com.waggle.global.response.swagger.UserSuccessResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -28,6 +36,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.util.LinkedHashSet;
 import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Tag(name = "사용자", description = "사용자 관련 API")
@@ -61,7 +70,7 @@ public class UserController {
             )
     })
     public ResponseEntity<BaseResponse<UserResponseDto>> fetchMe() {
-        User currentUserUser = userService.getCurrentUser();
+        User currentUserUser = userService.getCurrentUserProfile();
         return SuccessResponse.of(ApiStatus._OK, UserResponseDto.from(currentUserUser));
     }
 
@@ -85,6 +94,13 @@ public class UserController {
                     content = @Content(
                             schema = @Schema(implementation = ErrorResponse.class)
                     )
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "이미지 처리 요청이 많아 잠시 후 다시 시도해야 함",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
             )
     })
     public ResponseEntity<BaseResponse<UserResponseDto>> updateMe(
@@ -95,6 +111,61 @@ public class UserController {
         return SuccessResponse.of(ApiStatus._OK, UserResponseDto.from(updatedUser));
     }
 
+    @PostMapping("/me/profile-image/upload-url")
+    @Operation(
+            summary = "프로필 이미지 업로드 URL 발급",
+            description = "서버를 거치지 않고 파일을 직접 올릴 수 있는 PUT URL 을 발급합니다. 응답의 headers 를 그대로 실어 올린 뒤 확인 요청을 보내야 합니다.",
+            security = @SecurityRequirement(name = "JWT")
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "201",
+                    description = "업로드 URL 발급 성공",
+                    content = @Content(
+                            schema = @Schema(implementation = ProfileImageUploadSuccessResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "지원하지 않는 형식이거나 크기 제한 초과",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "인증되지 않은 사용자",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    public ResponseEntity<BaseResponse<ProfileImageUploadResponseDto>> createProfileImageUpload(
+            @RequestBody ProfileImageUploadInputDto profileImageUploadInputDto
+    ) {
+        ProfileImageUpload upload = userService.createProfileImageUpload(profileImageUploadInputDto);
+        return SuccessResponse.of(ApiStatus._CREATED, ProfileImageUploadResponseDto.from(upload));
+    }
+
+    @PostMapping("/me/profile-image/{version}/confirm")
+    @Operation(
+            summary = "프로필 이미지 업로드 확인",
+            description = "직접 올린 파일을 확인하고 프로필 이미지로 등록합니다. 크기별 이미지 생성은 비동기로 처리되어 잠시 후 반영됩니다.",
+            security = @SecurityRequirement(name = "JWT")
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "업로드 확인 성공", content = @Content()),
+            @ApiResponse(responseCode = "400", description = "지원하지 않는 형식이거나 크기 제한 초과", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "올라온 파일이 없음", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "409", description = "만료되었거나 이미 처리된 업로드", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "503", description = "이미지 처리 요청이 많아 잠시 후 다시 확인해야 함", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<BaseResponse<Object>> confirmProfileImageUpload(@PathVariable UUID version) {
+        userService.confirmProfileImageUpload(version);
+        return SuccessResponse.of(ApiStatus._ACCEPTED, null);
+    }
+
     @DeleteMapping("/me")
     @Operation(
             summary = "현재 사용자 삭제",
@@ -110,6 +181,57 @@ public class UserController {
         return SuccessResponse.of(ApiStatus._NO_CONTENT, null);
     }
 
+    @GetMapping("/search")
+    @Operation(
+            summary = "인재 검색",
+            description = """
+            조건에 맞는 사용자를 최근 가입순으로 조회한다. 모든 필터는 선택값이며, 목록 필터는 하나라도 포함하면 조회된다.
+            
+            min_year_cnt 는 job_ids 와 같은 직무에 적용된다. (job_ids 가 없으면 아무 직무나)
+            다음 페이지는 응답의 next_cursor를 cursor로 넘겨 조회한다. (has_next가 false면 마지막 페이지)
+            """
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "인재 검색 성공",
+                    content = @Content(
+                            schema = @Schema(implementation = UserSearchSuccessResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "유효하지 않은 커서입니다.",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    public ResponseEntity<BaseResponse<UserSearchResponseDto>> searchUsers(
+            @RequestParam(value = "skill_ids", required = false) Set<Long> skillIds,
+            @RequestParam(value = "job_ids", required = false) Set<Long> jobIds,
+            @RequestParam(value = "min_year_cnt", required = false) Integer minYearCnt,
+            @RequestParam(value = "sido_id", required = false) Long sidoId,
+            @RequestParam(value = "way_of_working_id", required = false) Long wayOfWorkingId,
+            @RequestParam(value = "time_of_working_id", required = false) Long timeOfWorkingId,
+            @RequestParam(value = "week_days_ids", required = false) Set<Long> weekDaysIds,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        UserSearchCondition condition = UserSearchCondition.builder()
+                .skillIds(skillIds)
+                .jobIds(jobIds)
+                .minYearCnt(minYearCnt)
+                .sidoId(sidoId)
+                .wayOfWorkingId(wayOfWorkingId)
+                .timeOfWorkingId(timeOfWorkingId)
+                .weekDaysIds(weekDaysIds)
+                .cursor(UserSearchCursor.decode(cursor))
+                .size(size)
+                .build();
+        return SuccessResponse.of(ApiStatus._OK, userService.searchUsers(condition));
+    }
+
     @GetMapping("/{userId}")
     @Operation(
             summary = "특정 사용자 조회",
@@ -0,0 +1,18 @@
+package com.waggle.domain.user.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+@Getter
+@Schema(description = "프로필 이미지 직접 업로드 URL 발급 DTO")
+public class ProfileImageUploadInputDto {
+
+    @JsonProperty("content_type")
+    @Schema(description = "올릴 파일 형식 (image/jpeg, image/png, image/gif)", example = "image/jpeg")
+    private String contentType;
+
+    @JsonProperty("content_length")
+    @Schema(description = "올릴 파일 크기(byte), 최대 5MB", example = "204800")
+    private Long contentLength;
+}
@@ -0,0 +1,41 @@
+package com.waggle.domain.user.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.waggle.domain.user.image.ProfileImageUpload;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.Map;
+
+@Getter
+@Builder
+@Schema(description = "프로필 이미지 직접 업로드 URL 응답 DTO")
+public class ProfileImageUploadResponseDto {
+
+    @Schema(description = "업로드 버전. 업로드 후 확인 요청에 사용", example = "550e8400-e29b-41d4-a716-446655440000")
+    @JsonProperty("version")
+    private String version;
+
+    @Schema(description = "PUT 으로 파일을 올릴 URL")
+    @JsonProperty("upload_url")
+    private String uploadUrl;
+
+    @Schema(description = "PUT 요청에 그대로 실어야 하는 헤더", example = "{\"Content-Type\": \"image/jpeg\", \"Content-Length\": \"204800\"}")
+    @JsonProperty("headers")
+    private Map<String, String> headers;
+
+    @Schema(description = "URL 만료 시각")
+    @JsonProperty("expires_at")
+    private Instant expiresAt;
+
+    public static ProfileImageUploadResponseDto from(ProfileImageUpload upload) {
+        return ProfileImageUploadResponseDto.builder()
+                .version(upload.version())
+                .uploadUrl(upload.url().toString())
+                .headers(upload.headers())
+                .expiresAt(upload.expiresAt())
+                .build();
+    }
+}
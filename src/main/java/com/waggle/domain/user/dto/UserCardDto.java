@@ -0,0 +1,66 @@
+package com.waggle.domain.user.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.waggle.domain.reference.entity.Sido;
+import com.waggle.domain.user.entity.User;
+import com.waggle.domain.user.entity.UserJob;
+import com.waggle.domain.user.entity.UserSkill;
+import com.waggle.domain.user.image.ProfileImageSize;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 목록용 사용자 요약. 상세 정보(소개, 포트폴리오, 이메일 등)는 사용자 조회에서 내려준다.
+ */
+@Getter
+@Builder
+@Schema(description = "사용자 요약 응답 dto")
+public class UserCardDto {
+
+    @Schema(description = "사용자 고유키", example = "550e8400-e29b-41d4-a716-446655440000")
+    @JsonProperty("id")
+    private UUID id;
+
+    @Schema(description = "사용자 이름", example = "홍길동")
+    @JsonProperty("name")
+    private String name;
+
+    @Schema(description = "프로필 이미지 URL (작은 크기가 있으면 작은 크기)")
+    @JsonProperty("profile_img_url")
+    private String profileImageUrl;
+
+    @Schema(description = "사용자 직무 정보")
+    @JsonProperty("jobs")
+    private Set<UserJob> userJobs;
+
+    @Schema(description = "사용자 보유 기술 정보")
+    @JsonProperty("skills")
+    private Set<UserSkill> userSkills;
+
+    @Schema(description = "사용자 지역 정보")
+    @JsonProperty("prefer_sido")
+    private Sido preferSido;
+
+    public static UserCardDto from(User user) {
+        return UserCardDto.builder()
+                .id(user.getId())
+                .name(user.getName())
+                .profileImageUrl(ProfileImageSize.variantUrls(user.getProfileImageUrl())
+                        .getOrDefault(String.valueOf(ProfileImageSize.SMALL.getPixels()), user.getProfileImageUrl()))
+                .userJobs(user.getUserJobs().stream()
+                        .sorted(Comparator.comparing(uj -> uj.getJob().getId()))
+                        .collect(Collectors.toCollection(LinkedHashSet::new)))
+                .userSkills(user.getUserSkills().stream()
+                        .sorted(Comparator.comparing(us -> us.getSkill().getId()))
+                        .collect(Collectors.toCollection(LinkedHashSet::new)))
+                .preferSido(user.getPreferSido())
+                .build();
+    }
+}
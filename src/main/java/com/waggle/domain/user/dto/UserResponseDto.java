@@ -5,6 +5,7 @@ import com.waggle.domain.reference.entity.Sido;
 import com.waggle.domain.reference.entity.TimeOfWorking;
 import com.waggle.domain.reference.entity.WaysOfWorking;
 import com.waggle.domain.user.entity.*;
+import com.waggle.domain.user.image.ProfileImageSize;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Getter;
@@ -34,6 +35,11 @@ public class UserResponseDto {
     @JsonProperty("profile_img_url")
     private String profileImageUrl;
 
+    @Schema(description = "크기별 프로필 이미지 URL (긴 변 픽셀 → URL). 처리 전 이미지나 소셜 프로필이면 비어 있음",
+            example = "{\"64\": \"https://.../64.jpg\", \"256\": \"https://.../256.jpg\", \"512\": \"https://.../512.jpg\"}")
+    @JsonProperty("profile_img_urls")
+    private Map<String, String> profileImageUrls;
+
     @Schema(description = "사용자 이름", example = "홍길동")
     @JsonProperty("name")
     private String name;
@@ -96,6 +102,7 @@ public class UserResponseDto {
                 .provider(user.getProvider())
                 .providerId(user.getProviderId())
                 .profileImageUrl(user.getProfileImageUrl())
+                .profileImageUrls(ProfileImageSize.variantUrls(user.getProfileImageUrl()))
                 .name(user.getName())
                 .email(user.getEmail())
                 .userJobs(user.getUserJobs().stream()
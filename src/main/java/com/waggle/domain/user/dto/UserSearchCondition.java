@@ -0,0 +1,21 @@
+package com.waggle.domain.user.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Set;
+
+@Getter
+@Builder
+public class UserSearchCondition {
+
+    private Set<Long> skillIds; //보유 기술 (하나라도 포함)
+    private Set<Long> jobIds; //직무 (하나라도 포함)
+    private Integer minYearCnt; //직무 최소 경력, jobIds 가 없으면 아무 직무나
+    private Long sidoId; //선호 지역
+    private Long wayOfWorkingId; //선호 진행 방식
+    private Long timeOfWorkingId; //선호 작업 시간
+    private Set<Long> weekDaysIds; //선호 요일 (하나라도 포함)
+    private UserSearchCursor cursor; //이전 페이지의 마지막 위치, 첫 페이지는 null
+    private int size;
+}
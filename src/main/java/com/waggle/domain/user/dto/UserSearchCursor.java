@@ -0,0 +1,36 @@
+package com.waggle.domain.user.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 인재 검색 키셋 커서. 가입 순서 (created_at, id) 쌍을 불투명한 문자열로 내려준다.
+ * 프로필 수정으로 바뀌는 updated_at 은 페이지 사이에 순서가 바뀔 수 있어 쓰지 않는다.
+ */
+public record UserSearchCursor(LocalDateTime createdAt, UUID id) {
+
+    private static final String DELIMITER = "|";
+
+    public static UserSearchCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = decoded.indexOf(DELIMITER);
+            return new UserSearchCursor(
+                    LocalDateTime.parse(decoded.substring(0, index)),
+                    UUID.fromString(decoded.substring(index + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,26 @@
+package com.waggle.domain.user.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@Schema(description = "인재 검색 응답 dto")
+public class UserSearchResponseDto {
+
+    @Schema(description = "사용자 목록 (최근 가입순)")
+    @JsonProperty("users")
+    private List<UserCardDto> users;
+
+    @Schema(description = "다음 페이지 커서, 마지막 페이지면 null", example = "MjAyNS0wMS0xOVQwMDowMDowMHw1NTBlODQwMC1lMjliLTQxZDQtYTcxNi00NDY2NTU0NDAwMDA")
+    @JsonProperty("next_cursor")
+    private String nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    @JsonProperty("has_next")
+    private boolean hasNext;
+}
@@ -20,7 +20,14 @@ import java.util.*;
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        // 인재 검색 키셋 정렬 (created_at DESC, id DESC)
+        @Index(name = "idx_users_created_at_id", columnList = "created_at, id"),
+        // 단일 값 필터 + 정렬
+        @Index(name = "idx_users_sido_created_at", columnList = "prefer_sido_id, created_at"),
+        @Index(name = "idx_users_wow_created_at", columnList = "prefer_wow_id, created_at"),
+        @Index(name = "idx_users_tow_created_at", columnList = "prefer_tow_id, created_at")
+})
 public class User {
 
     @Id
@@ -34,25 +41,30 @@ public class User {
     @Column(name = "provider_id", nullable = false)
     private String providerId;
 
-    @Column(name = "profile_img_url")
+    // 프로필 이미지는 비동기로 처리되어 UserRepository 의 SQL 로만 바꾼다. (엔티티 저장 시 덮어쓰지 않음)
+    @Column(name = "profile_img_url", updatable = false)
     private String profileImageUrl;
 
+    // 처리 중인 업로드 버전. 처리가 끝났을 때 이 값이 그대로인 경우에만 새 이미지로 교체한다.
+    @Column(name = "profile_img_pending", length = 36, updatable = false)
+    private String profileImagePending;
+
     @Column(name = "name", nullable = false)
     private String name;
 
     @Column(name = "email", nullable = false)
     private String email;
 
-    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     private Set<UserJob> userJobs = new HashSet<>();
 
-    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     private Set<UserIndustry> userIndustries = new HashSet<>();
 
-    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     private Set<UserSkill> userSkills = new HashSet<>();
 
-    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     private Set<UserWeekDays> userWeekDays = new HashSet<>();
 
     @ManyToOne
@@ -67,22 +79,22 @@ public class User {
     @JoinColumn(name = "prefer_sido_id")
     private Sido preferSido;
 
-    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     private Set<UserIntroduce> userIntroduces = new HashSet<>();
 
     @Column(name = "detail")
     private String detail;
 
-    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     private Set<UserPortfolioUrl> userPortfolioUrls = new HashSet<>();
 
-    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     private Set<ProjectMember> projectMembers = new HashSet<>();
 
-    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     private Set<ProjectApplicant> projectApplicants = new HashSet<>();
 
-    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     private Set<ProjectBookmark> projectBookmarks = new HashSet<>();
 
     @CreationTimestamp
@@ -98,7 +110,7 @@ public class User {
         this.userIndustries.clear();
         this.userSkills.clear();
         this.userWeekDays.clear();
-        this.userIndustries.clear();
+        this.userIntroduces.clear();
         this.userPortfolioUrls.clear();
     }
 }
@@ -10,6 +10,8 @@ import lombok.*;
 import java.util.UUID;
 
 @Entity
+// 인재 검색: 직무로 범위를 좁히고 경력 조건까지 인덱스에서 거른다.
+@Table(indexes = @Index(name = "idx_user_job_job_year_user", columnList = "job_id, year_cnt, user_id"))
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
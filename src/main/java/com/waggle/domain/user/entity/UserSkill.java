@@ -10,6 +10,7 @@ import lombok.*;
 import java.util.UUID;
 
 @Entity
+@Table(indexes = @Index(name = "idx_user_skill_skill_user", columnList = "skill_id, user_id"))
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
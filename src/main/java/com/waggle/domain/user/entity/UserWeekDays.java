@@ -11,6 +11,7 @@ import lombok.*;
 import java.util.UUID;
 
 @Entity
+@Table(indexes = @Index(name = "idx_user_week_days_week_days_user", columnList = "week_days_id, user_id"))
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
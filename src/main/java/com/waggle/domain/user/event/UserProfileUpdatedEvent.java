@@ -0,0 +1,9 @@
+package com.waggle.domain.user.event;
+
+import java.util.UUID;
+
+/**
+ * 사용자가 프로필(직무, 스킬, 관심 산업, 선호 조건 등)을 수정했을 때 발행된다.
+ */
+public record UserProfileUpdatedEvent(UUID userId) {
+}
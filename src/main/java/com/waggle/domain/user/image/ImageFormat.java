@@ -0,0 +1,60 @@
+package com.waggle.domain.user.image;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Optional;
+
+/**
+ * 프로필 이미지로 받는 형식. 클라이언트가 보낸 Content-Type 대신 파일 앞부분의 시그니처(magic bytes)로 판별한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ImageFormat {
+    JPEG("jpeg", "image/jpeg"),
+    PNG("png", "image/png"),
+    GIF("gif", "image/gif");
+
+    private final String readerFormatName; // ImageIO reader 이름
+    private final String contentType;
+
+    private static final byte[] JPEG_SIGNATURE = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF};
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    private static final byte[] GIF87_SIGNATURE = {'G', 'I', 'F', '8', '7', 'a'};
+    private static final byte[] GIF89_SIGNATURE = {'G', 'I', 'F', '8', '9', 'a'};
+
+    // 직접 업로드 URL 을 발급할 때 클라이언트가 밝힌 형식. 실제 형식은 확인 단계에서 sniff 로 다시 본다.
+    public static Optional<ImageFormat> ofContentType(String contentType) {
+        for (ImageFormat format : values()) {
+            if (format.contentType.equalsIgnoreCase(contentType)) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public static Optional<ImageFormat> sniff(byte[] bytes) {
+        if (startsWith(bytes, JPEG_SIGNATURE)) {
+            return Optional.of(JPEG);
+        }
+        if (startsWith(bytes, PNG_SIGNATURE)) {
+            return Optional.of(PNG);
+        }
+        if (startsWith(bytes, GIF87_SIGNATURE) || startsWith(bytes, GIF89_SIGNATURE)) {
+            return Optional.of(GIF);
+        }
+        return Optional.empty();
+    }
+
+    private static boolean startsWith(byte[] bytes, byte[] signature) {
+        if (bytes.length < signature.length) {
+            return false;
+        }
+        for (int i = 0; i < signature.length; i++) {
+            if (bytes[i] != signature[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
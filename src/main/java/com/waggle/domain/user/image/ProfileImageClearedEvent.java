@@ -0,0 +1,9 @@
+package com.waggle.domain.user.image;
+
+import java.util.UUID;
+
+/**
+ * 프로필 이미지를 지웠거나 사용자를 삭제했을 때 발행된다. 남은 S3 객체 정리에 쓴다.
+ */
+public record ProfileImageClearedEvent(UUID userId) {
+}
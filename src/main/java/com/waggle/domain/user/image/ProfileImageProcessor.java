@@ -0,0 +1,354 @@
+package com.waggle.domain.user.image;
+
+import com.waggle.config.AsyncConfig;
+import com.waggle.domain.user.repository.UserRepository;
+import com.waggle.global.aws.service.S3Service;
+import com.waggle.global.exception.S3Exception;
+import com.waggle.global.response.ApiStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 프로필 이미지 처리 파이프라인.
+ * 요청에서는 크기와 형식만 확인하고 처리 중 버전을 기록한 뒤 바로 응답한다.
+ * 커밋 후 별도 실행기에서 디코딩 → 크기별 축소 → JPEG 재압축(메타데이터 제거) → S3 업로드 → 주소 교체 → 이전 객체 정리 순으로 처리한다.
+ */
+@Slf4j
+@Component
+public class ProfileImageProcessor {
+
+    public static final long MAX_FILE_SIZE = 5 * 1024 * 1024; // 5MB
+    // 프로필 사진에는 4096x4096 이면 충분하다. 디코딩(ARGB 64MB)과 RGB 변환 사본까지 합쳐도 실행기 스레드당 메모리를 묶어 둔다.
+    private static final long MAX_PIXELS = 4096L * 4096L;
+    // 형식 판별에 읽는 앞부분 길이. 가장 긴 시그니처(PNG 8바이트)보다 넉넉히 둔다.
+    private static final int SNIFF_LENGTH = 16;
+    private static final float JPEG_QUALITY = 0.85f;
+    private static final String CONTENT_TYPE = "image/jpeg";
+
+    private final UserRepository userRepository;
+    private final S3Service s3Service;
+    private final TransactionTemplate transactionTemplate;
+    // 커밋 후 리스너는 끝난 트랜잭션의 동기화 안에서 돌므로 DB 를 바꿀 때는 새 트랜잭션을 연다.
+    private final TransactionTemplate newTransactionTemplate;
+    private final ThreadPoolTaskExecutor executor;
+
+    private final Timer processTimer;
+    private final Counter failedCounter;
+    private final Counter supersededCounter;
+    private final Counter busyCounter;
+
+    public ProfileImageProcessor(UserRepository userRepository,
+                                 S3Service s3Service,
+                                 TransactionTemplate transactionTemplate,
+                                 @Qualifier(AsyncConfig.PROFILE_IMAGE_EXECUTOR) ThreadPoolTaskExecutor executor,
+                                 MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.s3Service = s3Service;
+        this.transactionTemplate = transactionTemplate;
+        this.newTransactionTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.newTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.executor = executor;
+        this.processTimer = meterRegistry.timer("profile.image.process");
+        this.failedCounter = meterRegistry.counter("profile.image.failed");
+        this.supersededCounter = meterRegistry.counter("profile.image.superseded");
+        this.busyCounter = meterRegistry.counter("profile.image.busy");
+    }
+
+    /**
+     * 처리 실행기의 큐와 스레드가 모두 찼으면 처리 중 버전을 기록하기 전에 503 으로 돌려보낸다.
+     * 미리 걸러 내는 용도일 뿐이며, 확인 뒤에 자리가 차서 제출이 거절된 경우는 submit 과 onUploaded 가 따로 처리한다.
+     */
+    public void ensureCapacity() {
+        ThreadPoolExecutor pool = executor.getThreadPoolExecutor();
+        if (pool.getQueue().remainingCapacity() == 0 && pool.getPoolSize() >= pool.getMaximumPoolSize()) {
+            busyCounter.increment();
+            throw new S3Exception(ApiStatus._PROFILE_IMAGE_BUSY);
+        }
+    }
+
+    /**
+     * 요청 스레드에서 원본을 읽고 실제 형식을 판별한다. 처리할 수 없는 파일이면 바로 400 을 돌려준다.
+     */
+    public ProfileImageUploadedEvent accept(UUID userId, String version, MultipartFile file) {
+        if (file.isEmpty()) {
+            throw new S3Exception(ApiStatus._S3_FILE_NOT_FOUND);
+        }
+        if (file.getSize() > MAX_FILE_SIZE) {
+            throw new S3Exception(ApiStatus._S3_FILE_SIZE_EXCEEDED);
+        }
+        try {
+            return accept(userId, version, file.getBytes());
+        } catch (IOException e) {
+            throw new S3Exception(ApiStatus._S3_UPLOAD_FAILED, e);
+        }
+    }
+
+    private ProfileImageUploadedEvent accept(UUID userId, String version, byte[] bytes) {
+        if (bytes.length == 0) {
+            throw new S3Exception(ApiStatus._S3_FILE_NOT_FOUND);
+        }
+        if (bytes.length > MAX_FILE_SIZE) {
+            throw new S3Exception(ApiStatus._S3_FILE_SIZE_EXCEEDED);
+        }
+        ImageFormat format = ImageFormat.sniff(bytes)
+                .orElseThrow(() -> new S3Exception(ApiStatus._S3_INVALID_FILE_TYPE));
+        return new ProfileImageUploadedEvent(userId, version, format, bytes, null);
+    }
+
+    /**
+     * 직접 업로드된 원본을 받는다. 요청 스레드에서는 크기와 앞부분만 읽어 형식을 판별하고, 전체는 처리 실행기에서 내려받는다.
+     */
+    public ProfileImageUploadedEvent acceptUploaded(UUID userId, String version, String key) {
+        byte[] head = s3Service.readObjectPrefix(key, MAX_FILE_SIZE, SNIFF_LENGTH);
+        ImageFormat format = ImageFormat.sniff(head)
+                .orElseThrow(() -> new S3Exception(ApiStatus._S3_INVALID_FILE_TYPE));
+        return new ProfileImageUploadedEvent(userId, version, format, null, key);
+    }
+
+    /**
+     * 직접 업로드 확인 요청에서 바로 제출한다. 트랜잭션 밖이므로 자리가 없으면 503 으로 돌려보내고,
+     * 처리 중 버전과 원본은 그대로 두어 같은 버전으로 다시 확인할 수 있게 한다.
+     */
+    public void submit(ProfileImageUploadedEvent event) {
+        try {
+            executor.execute(() -> run(event));
+        } catch (TaskRejectedException e) {
+            busyCounter.increment();
+            throw new S3Exception(ApiStatus._PROFILE_IMAGE_BUSY, e);
+        }
+    }
+
+    /**
+     * multipart 로 받은 원본은 프로필 수정이 커밋된 뒤에 제출한다. 이미 저장된 수정에 503 을 돌려줄 수는 없으므로,
+     * 자리가 없으면 이 버전의 처리 중 표시만 지워 기존 이미지를 그대로 둔다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUploaded(ProfileImageUploadedEvent event) {
+        try {
+            executor.execute(() -> run(event));
+        } catch (TaskRejectedException e) {
+            busyCounter.increment();
+            log.warn("프로필 이미지 실행기 포화, 업로드를 처리하지 않습니다: {} {}", event.userId(), event.version());
+            abandon(event.userId(), event.version());
+        }
+    }
+
+    // 정리는 S3 목록/삭제뿐이므로 자리가 없으면 호출한 스레드에서 바로 한다.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCleared(ProfileImageClearedEvent event) {
+        try {
+            executor.execute(() -> cleanup(event.userId()));
+        } catch (TaskRejectedException e) {
+            cleanup(event.userId());
+        }
+    }
+
+    private void run(ProfileImageUploadedEvent event) {
+        try {
+            processTimer.record(() -> process(event));
+        } catch (RuntimeException e) {
+            log.warn("프로필 이미지 처리 실패: {} {}", event.userId(), event.version(), e);
+            failedCounter.increment();
+            deleteVersion(event.userId(), event.version());
+        }
+    }
+
+    // 그 사이 더 새 업로드가 있었다면 그 버전은 건드리지 않는다.
+    private void abandon(UUID userId, String version) {
+        try {
+            newTransactionTemplate.execute(status -> userRepository.clearProfileImagePending(userId, version));
+        } catch (RuntimeException e) {
+            log.warn("프로필 이미지 처리 중 표시 해제 실패: {} {}", userId, version, e);
+        }
+    }
+
+    private void process(ProfileImageUploadedEvent event) {
+        BufferedImage original = decode(source(event), event.format());
+
+        List<String> urls = new ArrayList<>();
+        for (ProfileImageSize size : ProfileImageSize.values()) {
+            byte[] jpeg = encodeJpeg(resize(original, size.getPixels()));
+            urls.add(s3Service.uploadBytes(jpeg, size.key(event.userId(), event.version()), CONTENT_TYPE));
+        }
+        String largeUrl = urls.get(urls.size() - 1);
+
+        Integer swapped = transactionTemplate.execute(status ->
+                userRepository.swapProfileImage(event.userId(), event.version(), largeUrl));
+        if (swapped == null || swapped == 0) {
+            // 처리 중에 더 새 업로드나 삭제가 있었다. 같은 버전을 두 번 확인한 경우 이미 반영된 사본일 수 있으므로
+            // 버전째 지우지 않고 현재 주소와 처리 중인 버전 외의 객체만 정리한다.
+            supersededCounter.increment();
+            cleanup(event.userId());
+            return;
+        }
+        cleanup(event.userId());
+    }
+
+    // 직접 업로드한 원본은 여기서 내려받는다. 확인 뒤에도 발급한 URL 로 다시 올릴 수 있으므로 형식을 다시 본다.
+    private byte[] source(ProfileImageUploadedEvent event) {
+        if (event.bytes() != null) {
+            return event.bytes();
+        }
+        byte[] bytes = s3Service.readObject(event.sourceKey(), MAX_FILE_SIZE);
+        if (ImageFormat.sniff(bytes).filter(event.format()::equals).isEmpty()) {
+            throw new IllegalArgumentException("확인 후 원본 형식이 바뀌었습니다: " + event.sourceKey());
+        }
+        return bytes;
+    }
+
+    // 현재 주소와 처리 중인 버전의 객체만 남기고 지운다. (이전 버전, 예전 단일 파일 경로 포함)
+    private void cleanup(UUID userId) {
+        try {
+            ProfileImageState state = userRepository.findProfileImageStateById(userId)
+                    .orElse(new ProfileImageState(null, null));
+            Set<String> keptPrefixes = new HashSet<>();
+            if (state.pendingVersion() != null) {
+                keptPrefixes.add(ProfileImageSize.versionPrefix(userId, state.pendingVersion()));
+                keptPrefixes.add(ProfileImageSize.uploadKey(userId, state.pendingVersion()));
+            }
+            String currentUrl = state.profileImageUrl();
+            if (currentUrl != null && currentUrl.endsWith("/" + ProfileImageSize.LARGE.fileName())) {
+                String path = currentUrl.substring(0, currentUrl.length() - ProfileImageSize.LARGE.fileName().length());
+                int start = path.indexOf(ProfileImageSize.userPrefix(userId));
+                if (start >= 0) {
+                    keptPrefixes.add(path.substring(start));
+                }
+            }
+            s3Service.deleteByPrefix(ProfileImageSize.userPrefix(userId),
+                    key -> keptPrefixes.stream().anyMatch(key::startsWith));
+        } catch (RuntimeException e) {
+            log.warn("프로필 이미지 정리 실패: {}", userId, e);
+        }
+    }
+
+    private void deleteVersion(UUID userId, String version) {
+        try {
+            s3Service.deleteByPrefix(ProfileImageSize.versionPrefix(userId, version), key -> false);
+        } catch (RuntimeException e) {
+            log.warn("프로필 이미지 사본 삭제 실패: {} {}", userId, version, e);
+        }
+    }
+
+    // 크기를 먼저 읽어 너무 큰 이미지는 디코딩하지 않는다. 애니메이션 GIF 는 첫 프레임만 쓴다.
+    private BufferedImage decode(byte[] bytes, ImageFormat format) {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReadersByFormatName(format.getReaderFormatName());
+            if (!readers.hasNext()) {
+                throw new IllegalStateException("이미지 reader 가 없습니다: " + format);
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true); // 메타데이터는 읽지 않는다.
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels <= 0 || pixels > MAX_PIXELS) {
+                    throw new IllegalArgumentException("이미지 해상도가 너무 큽니다: " + pixels);
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 긴 변을 maxPixels 이하로 줄인다. 크게 줄일 때는 절반씩 나눠 줄여 계단 현상을 줄인다.
+    private BufferedImage resize(BufferedImage source, int maxPixels) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double scale = Math.min(1.0, (double) maxPixels / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        BufferedImage current = toRgb(source);
+        while (current.getWidth() / 2 >= targetWidth && current.getHeight() / 2 >= targetHeight) {
+            current = draw(current, current.getWidth() / 2, current.getHeight() / 2, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        }
+        if (current.getWidth() != targetWidth || current.getHeight() != targetHeight) {
+            current = draw(current, targetWidth, targetHeight, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+        }
+        return current;
+    }
+
+    // JPEG 는 투명도가 없으므로 흰 배경 위에 그린다.
+    private BufferedImage toRgb(BufferedImage source) {
+        if (source.getType() == BufferedImage.TYPE_INT_RGB) {
+            return source;
+        }
+        BufferedImage rgb = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgb.createGraphics();
+        try {
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, rgb.getWidth(), rgb.getHeight());
+            graphics.drawImage(source, 0, 0, null);
+        } finally {
+            graphics.dispose();
+        }
+        return rgb;
+    }
+
+    private BufferedImage draw(BufferedImage source, int width, int height, Object interpolation) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, interpolation);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    // 메타데이터 없이 새로 인코딩하므로 EXIF(위치 정보 등)가 남지 않는다.
+    private byte[] encodeJpeg(BufferedImage image) {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(output)) {
+            writer.setOutput(stream);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+}
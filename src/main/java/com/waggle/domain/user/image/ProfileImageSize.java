@@ -0,0 +1,62 @@
+package com.waggle.domain.user.image;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 업로드된 프로필 이미지로 만드는 크기별 사본. 긴 변 기준이며 원본보다 크게 늘리지는 않는다.
+ * users.profile_img_url 에는 LARGE 주소를 저장하고, 나머지 주소는 같은 경로에서 파일명만 바꿔 만든다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ProfileImageSize {
+    SMALL(64),
+    MEDIUM(256),
+    LARGE(512);
+
+    private static final String KEY_PREFIX = "user/profile_img/";
+    private static final String EXTENSION = ".jpg";
+
+    private final int pixels;
+
+    public String fileName() {
+        return pixels + EXTENSION;
+    }
+
+    // user/profile_img/{userId}/{version}/{pixels}.jpg — 버전마다 새 경로라 덮어쓰지 않는다.
+    public String key(UUID userId, String version) {
+        return versionPrefix(userId, version) + fileName();
+    }
+
+    public static String userPrefix(UUID userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    // 클라이언트가 직접 올리는 원본. 처리 중인 동안만 남겨 두고 교체 후 정리할 때 지운다.
+    public static String uploadKey(UUID userId, String version) {
+        return userPrefix(userId) + "/upload/" + version;
+    }
+
+    public static String versionPrefix(UUID userId, String version) {
+        return userPrefix(userId) + "/" + version + "/";
+    }
+
+    /**
+     * LARGE 주소로부터 크기별 주소를 만든다. 파이프라인을 거치지 않은 주소(소셜 프로필 등)면 빈 맵.
+     */
+    public static Map<String, String> variantUrls(String largeUrl) {
+        Map<String, String> urls = new LinkedHashMap<>();
+        if (largeUrl == null || !largeUrl.endsWith("/" + LARGE.fileName())) {
+            return urls;
+        }
+        String base = largeUrl.substring(0, largeUrl.length() - LARGE.fileName().length());
+        for (ProfileImageSize size : values()) {
+            urls.put(String.valueOf(size.pixels), base + size.fileName());
+        }
+        return urls;
+    }
+}
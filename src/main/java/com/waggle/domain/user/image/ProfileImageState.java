@@ -0,0 +1,7 @@
+package com.waggle.domain.user.image;
+
+/**
+ * 정리할 때 남겨야 하는 프로필 이미지 주소와 처리 중인 버전.
+ */
+public record ProfileImageState(String profileImageUrl, String pendingVersion) {
+}
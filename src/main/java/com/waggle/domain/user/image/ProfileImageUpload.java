@@ -0,0 +1,11 @@
+package com.waggle.domain.user.image;
+
+import java.net.URL;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 발급한 직접 업로드 URL. headers 는 PUT 요청에 그대로 실어야 서명이 맞는다.
+ */
+public record ProfileImageUpload(String version, URL url, Map<String, String> headers, Instant expiresAt) {
+}
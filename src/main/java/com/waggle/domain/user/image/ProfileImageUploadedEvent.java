@@ -0,0 +1,10 @@
+package com.waggle.domain.user.image;
+
+import java.util.UUID;
+
+/**
+ * 프로필 이미지 원본을 받아 users.profile_img_pending 에 version 을 기록했을 때 발행된다.
+ * multipart 로 받은 원본은 bytes 에 담고, 직접 업로드한 원본은 sourceKey 만 넘겨 처리 실행기에서 내려받는다.
+ */
+public record ProfileImageUploadedEvent(UUID userId, String version, ImageFormat format, byte[] bytes, String sourceKey) {
+}
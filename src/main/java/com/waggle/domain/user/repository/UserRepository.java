@@ -1,18 +1,79 @@
 package com.waggle.domain.user.repository;
 
+import com.waggle.domain.project.match.CandidateJobRow;
+import com.waggle.domain.project.match.CandidateReferenceRow;
+import com.waggle.domain.project.match.CandidateRow;
+import com.waggle.domain.user.image.ProfileImageState;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.waggle.domain.user.entity.User;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface UserRepository extends JpaRepository<User,UUID> {
+public interface UserRepository extends JpaRepository<User,UUID>, UserSearchRepository {
     @Query("SELECT u FROM User u WHERE u.id = :userId")
     Optional<User> findByUserId(UUID userId);
 
     User findByProviderId(String providerId);
+
+    // 검색 결과 카드용. 직무/기술 컬렉션은 batch fetch 로 한 번에 읽는다.
+    @Query("SELECT u FROM User u LEFT JOIN FETCH u.preferSido WHERE u.id IN :ids")
+    List<User> findAllCardByIdIn(Collection<UUID> ids);
+
+    @Query("SELECT new com.waggle.domain.user.image.ProfileImageState(u.profileImageUrl, u.profileImagePending) FROM User u WHERE u.id = :id")
+    Optional<ProfileImageState> findProfileImageStateById(UUID id);
+
+    // 프로젝트 적합도 계산용: 엔티티 대신 참조 데이터 id만 조회
+    @Query("SELECT new com.waggle.domain.project.match.CandidateRow(u.id, w.id) FROM User u LEFT JOIN u.preferWow w WHERE u.id IN :ids")
+    List<CandidateRow> findCandidateRowsByIdIn(Collection<UUID> ids);
+
+    @Query("SELECT new com.waggle.domain.project.match.CandidateReferenceRow(s.user.id, s.skill.id) FROM UserSkill s WHERE s.user.id IN :userIds")
+    List<CandidateReferenceRow> findSkillRowsByUserIdIn(Collection<UUID> userIds);
+
+    @Query("SELECT new com.waggle.domain.project.match.CandidateJobRow(j.user.id, j.job.id, j.yearCnt) FROM UserJob j WHERE j.user.id IN :userIds")
+    List<CandidateJobRow> findJobRowsByUserIdIn(Collection<UUID> userIds);
+
+    @Query("SELECT new com.waggle.domain.project.match.CandidateReferenceRow(d.user.id, d.weekDays.id) FROM UserWeekDays d WHERE d.user.id IN :userIds")
+    List<CandidateReferenceRow> findWeekDaysRowsByUserIdIn(Collection<UUID> userIds);
+
+    @Query("SELECT new com.waggle.domain.project.match.CandidateReferenceRow(i.user.id, i.industry.id) FROM UserIndustry i WHERE i.user.id IN :userIds")
+    List<CandidateReferenceRow> findIndustryRowsByUserIdIn(Collection<UUID> userIds);
+
+    @Query("SELECT u.id FROM User u WHERE u.id > :lastId ORDER BY u.id")
+    List<UUID> findIdsAfter(UUID lastId, Pageable pageable);
+
+    // 추천 후보군: (skill_id, user_id) 인덱스만 읽고 겹치는 스킬이 많은 순으로 자른다.
+    @Query("SELECT s.user.id FROM UserSkill s WHERE s.skill.id IN :skillIds GROUP BY s.user.id ORDER BY COUNT(s) DESC")
+    List<UUID> findUserIdsBySkillOverlap(Collection<Long> skillIds, Pageable pageable);
+
+    // 추천 후보군: (job_id, year_cnt, user_id) 인덱스만 읽고 경력이 긴 순으로 자른다.
+    @Query("SELECT j.user.id FROM UserJob j WHERE j.job.id IN :jobIds GROUP BY j.user.id ORDER BY MAX(j.yearCnt) DESC")
+    List<UUID> findUserIdsByJobExperience(Collection<Long> jobIds, Pageable pageable);
+
+    // 가장 마지막에 올린 이미지만 반영되도록 처리 중인 버전을 기록한다.
+    @Modifying
+    @Query(value = "UPDATE users SET profile_img_pending = :version WHERE id = :id", nativeQuery = true)
+    int markProfileImagePending(UUID id, String version);
+
+    // 처리 중에 더 새 업로드나 삭제가 없었을 때만 교체한다.
+    @Modifying
+    @Query(value = "UPDATE users SET profile_img_url = :url, profile_img_pending = NULL WHERE id = :id AND profile_img_pending = :version", nativeQuery = true)
+    int swapProfileImage(UUID id, String version, String url);
+
+    // 처리하지 못한 버전이 아직 처리 중으로 남아 있을 때만 지운다.
+    @Modifying
+    @Query(value = "UPDATE users SET profile_img_pending = NULL WHERE id = :id AND profile_img_pending = :version", nativeQuery = true)
+    int clearProfileImagePending(UUID id, String version);
+
+    @Modifying
+    @Query(value = "UPDATE users SET profile_img_url = NULL, profile_img_pending = NULL WHERE id = :id", nativeQuery = true)
+    int clearProfileImage(UUID id);
 }
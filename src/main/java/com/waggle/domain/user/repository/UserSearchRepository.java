@@ -0,0 +1,16 @@
+package com.waggle.domain.user.repository;
+
+import com.waggle.domain.user.dto.UserSearchCondition;
+import com.waggle.domain.user.dto.UserSearchCursor;
+
+import java.util.List;
+
+public interface UserSearchRepository {
+
+    /**
+     * 필터와 커서 조건을 만족하는 사용자의 (created_at, id) 를 (created_at DESC, id DESC) 순으로 최대 limit개 조회한다.
+     * 다중 값 필터는 EXISTS 로 걸러 조인으로 행이 불어나지 않게 한다.
+     * 다음 커서는 이 값으로 만들어, 로딩 사이에 탈퇴한 사용자가 있어도 이어서 조회할 수 있다.
+     */
+    List<UserSearchCursor> findSearchKeys(UserSearchCondition condition, int limit);
+}
@@ -0,0 +1,90 @@
+package com.waggle.domain.user.repository;
+
+import com.waggle.domain.user.dto.UserSearchCondition;
+import com.waggle.domain.user.dto.UserSearchCursor;
+import com.waggle.domain.user.entity.User;
+import com.waggle.domain.user.entity.UserJob;
+import com.waggle.domain.user.entity.UserSkill;
+import com.waggle.domain.user.entity.UserWeekDays;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public class UserSearchRepositoryImpl implements UserSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<UserSearchCursor> findSearchKeys(UserSearchCondition condition, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<UserSearchCursor> query = cb.createQuery(UserSearchCursor.class);
+        Root<User> user = query.from(User.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (condition.getSidoId() != null) {
+            predicates.add(cb.equal(user.get("preferSido").get("id"), condition.getSidoId()));
+        }
+        if (condition.getWayOfWorkingId() != null) {
+            predicates.add(cb.equal(user.get("preferWow").get("id"), condition.getWayOfWorkingId()));
+        }
+        if (condition.getTimeOfWorkingId() != null) {
+            predicates.add(cb.equal(user.get("preferTow").get("id"), condition.getTimeOfWorkingId()));
+        }
+        if (condition.getSkillIds() != null && !condition.getSkillIds().isEmpty()) {
+            Subquery<Integer> skill = query.subquery(Integer.class);
+            Root<UserSkill> userSkill = skill.from(UserSkill.class);
+            skill.select(cb.literal(1)).where(
+                    cb.equal(userSkill.get("user"), user),
+                    userSkill.get("skill").get("id").in(condition.getSkillIds()));
+            predicates.add(cb.exists(skill));
+        }
+        boolean hasJobIds = condition.getJobIds() != null && !condition.getJobIds().isEmpty();
+        if (hasJobIds || condition.getMinYearCnt() != null) {
+            // 경력 조건은 같은 직무 행에 걸어야 하므로 직무와 한 EXISTS 에 묶는다.
+            Subquery<Integer> job = query.subquery(Integer.class);
+            Root<UserJob> userJob = job.from(UserJob.class);
+            List<Predicate> jobPredicates = new ArrayList<>();
+            jobPredicates.add(cb.equal(userJob.get("user"), user));
+            if (hasJobIds) {
+                jobPredicates.add(userJob.get("job").get("id").in(condition.getJobIds()));
+            }
+            if (condition.getMinYearCnt() != null) {
+                jobPredicates.add(cb.greaterThanOrEqualTo(userJob.get("yearCnt"), condition.getMinYearCnt()));
+            }
+            job.select(cb.literal(1)).where(jobPredicates.toArray(Predicate[]::new));
+            predicates.add(cb.exists(job));
+        }
+        if (condition.getWeekDaysIds() != null && !condition.getWeekDaysIds().isEmpty()) {
+            Subquery<Integer> weekDays = query.subquery(Integer.class);
+            Root<UserWeekDays> userWeekDays = weekDays.from(UserWeekDays.class);
+            weekDays.select(cb.literal(1)).where(
+                    cb.equal(userWeekDays.get("user"), user),
+                    userWeekDays.get("weekDays").get("id").in(condition.getWeekDaysIds()));
+            predicates.add(cb.exists(weekDays));
+        }
+
+        // 키셋: (created_at, id) < (cursor.created_at, cursor.id)
+        UserSearchCursor cursor = condition.getCursor();
+        if (cursor != null) {
+            Path<LocalDateTime> createdAt = user.get("createdAt");
+            Path<UUID> id = user.get("id");
+            predicates.add(cb.or(
+                    cb.lessThan(createdAt, cursor.createdAt()),
+                    cb.and(cb.equal(createdAt, cursor.createdAt()), cb.lessThan(id, cursor.id()))));
+        }
+
+        query.select(cb.construct(UserSearchCursor.class, user.get("createdAt"), user.get("id")))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.desc(user.get("createdAt")), cb.desc(user.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
@@ -0,0 +1,24 @@
+package com.waggle.domain.user.service;
+
+import com.waggle.domain.user.entity.User;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+import java.util.UUID;
+
+/**
+ * 한 요청 안에서 읽은 현재 사용자 엔티티와, 존재를 확인한 사용자 id 를 들고 있는다.
+ * open-in-view 를 끄고 있어 트랜잭션이 바뀌면 엔티티가 준영속이 되므로, 재사용 여부는 UserServiceImpl 이 판단한다.
+ */
+@Getter
+@Setter
+@Component
+@RequestScope
+class CurrentUserMemo {
+
+    private User user;
+
+    private UUID verifiedUserId;
+}
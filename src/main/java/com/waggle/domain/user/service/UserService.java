@@ -1,15 +1,28 @@
 package com.waggle.domain.user.service;
 
 import com.waggle.domain.project.entity.Project;
+import com.waggle.domain.user.dto.ProfileImageUploadInputDto;
 import com.waggle.domain.user.dto.UserInputDto;
+import com.waggle.domain.user.dto.UserSearchCondition;
+import com.waggle.domain.user.dto.UserSearchResponseDto;
 import com.waggle.domain.user.entity.User;
+import com.waggle.domain.user.image.ProfileImageUpload;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.util.Set;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
 
 public interface UserService {
     User getCurrentUser();
+    UUID getCurrentUserId();
+    User getCurrentUserProfile();
     User updateCurrentUser(MultipartFile profileImage, UserInputDto userInputDto);
+    ProfileImageUpload createProfileImageUpload(ProfileImageUploadInputDto profileImageUploadInputDto);
+    void confirmProfileImageUpload(UUID version);
     void deleteCurrentUser();
     User getUserByUserId(String userId);
+    void loadProfiles(Collection<User> users);
+    UserSearchResponseDto searchUsers(UserSearchCondition condition);
+    List<User> getUserCards(List<UUID> ids);
 }
@@ -7,24 +7,46 @@ import com.waggle.domain.project.entity.ProjectMember;
 import com.waggle.domain.project.repository.ProjectRepository;
 import com.waggle.domain.reference.entity.*;
 import com.waggle.domain.reference.service.ReferenceService;
+import com.waggle.domain.user.dto.ProfileImageUploadInputDto;
+import com.waggle.domain.user.dto.UserCardDto;
 import com.waggle.domain.user.dto.UserInputDto;
+import com.waggle.domain.user.dto.UserJobDto;
+import com.waggle.domain.user.dto.UserPortfolioUrlDto;
+import com.waggle.domain.user.dto.UserSearchCondition;
+import com.waggle.domain.user.dto.UserSearchCursor;
+import com.waggle.domain.user.dto.UserSearchResponseDto;
 import com.waggle.domain.user.entity.*;
+import com.waggle.domain.user.event.UserProfileUpdatedEvent;
+import com.waggle.domain.user.image.*;
 import com.waggle.domain.user.repository.UserRepository;
 import com.waggle.global.aws.service.S3Service;
 import com.waggle.global.exception.JwtTokenException;
 import com.waggle.global.exception.ProjectException;
+import com.waggle.global.exception.S3Exception;
 import com.waggle.global.response.ApiStatus;
-import com.waggle.global.secure.jwt.JwtUtil;
+import com.waggle.global.secure.jwt.JwtAuthenticationFilter;
+import com.waggle.global.secure.jwt.JwtPrincipal;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.net.URL;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -32,69 +54,242 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
 
-    private final JwtUtil jwtUtil;
+    private static final int MAX_SEARCH_SIZE = 50;
+
     private final UserRepository userRepository;
     private final ProjectRepository projectRepository;
     private final ReferenceService referenceService;
+    private final ProfileImageProcessor profileImageProcessor;
     private final S3Service s3Service;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final CurrentUserMemo currentUserMemo;
+    private final EntityManager entityManager;
+
+    @Value("${user.profile-image.upload-url-ttl}")
+    private Duration uploadUrlTtl;
 
     @Override
     public User getCurrentUser() {
-        String authorizationHeader = ((ServletRequestAttributes) RequestContextHolder.getRequestAttributes())
-                .getRequest()
-                .getHeader("Authorization");
-
-        String token = jwtUtil.getTokenFromHeader(authorizationHeader);
+        // 같은 트랜잭션 안에서 다시 부르면 조회하지 않고 이미 읽은 엔티티를 돌려준다.
+        User memo = currentUserMemo.getUser();
+        if (memo != null && entityManager.contains(memo)) {
+            return memo;
+        }
+        User user = userRepository.findByUserId(getPrincipalUserId())
+                .orElseThrow(() -> new JwtTokenException(ApiStatus._INVALID_ACCESS_TOKEN));
+        currentUserMemo.setUser(user);
+        currentUserMemo.setVerifiedUserId(user.getId());
+        return user;
+    }
 
-        String userId = jwtUtil.getUserIdFromToken(token);
-        if (userId == null) {
+    /**
+     * JwtAuthenticationFilter 가 검증해 둔 토큰의 사용자 id.
+     * 탈퇴한 사용자의 토큰은 만료 전까지 서명이 유효하므로, 요청당 한 번 PK 로 존재를 확인한다.
+     */
+    @Override
+    public UUID getCurrentUserId() {
+        UUID userId = getPrincipalUserId();
+        if (userId.equals(currentUserMemo.getVerifiedUserId())) {
+            return userId;
+        }
+        if (!userRepository.existsById(userId)) {
             throw new JwtTokenException(ApiStatus._INVALID_ACCESS_TOKEN);
         }
+        currentUserMemo.setVerifiedUserId(userId);
+        return userId;
+    }
 
-        return userRepository.findByUserId(UUID.fromString(userId))
-                .orElseThrow(() -> new JwtTokenException(ApiStatus._INVALID_ACCESS_TOKEN));
+    private UUID getPrincipalUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof JwtPrincipal principal) {
+            return principal.userId();
+        }
+        throw new JwtTokenException(getTokenError());
+    }
+
+    // 토큰이 없으면 _INVALID_ACCESS_TOKEN, 잘못된 토큰이면 필터가 남긴 사유
+    private ApiStatus getTokenError() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                && attributes.getRequest().getAttribute(JwtAuthenticationFilter.ERROR_ATTRIBUTE) instanceof ApiStatus status) {
+            return status;
+        }
+        return ApiStatus._INVALID_ACCESS_TOKEN;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public User getCurrentUserProfile() {
+        User user = getCurrentUser();
+        loadProfiles(List.of(user));
+        return user;
     }
 
     @Override
     @Transactional
     public User updateCurrentUser(MultipartFile profileImage, UserInputDto userInputDto) {
         User user = getCurrentUser();
+        updateProfileImage(profileImage, user);
         user.clearInfo();
 
-        user.setProfileImageUrl(getProfileImageUrl(profileImage, user));
         user.setName(userInputDto.getName());
-        user.setUserJobs(getUserJobs(userInputDto, user));
-        user.setUserIndustries(getUserIndustries(userInputDto, user));
-        user.setUserSkills(getUserSkills(userInputDto, user));
-        user.setUserWeekDays(getUserWeekDays(userInputDto, user));
+        // orphanRemoval 컬렉션은 영속 상태에서 참조를 교체하면 안 되므로 clearInfo 후 내용만 채운다.
+        user.getUserJobs().addAll(getUserJobs(userInputDto, user));
+        user.getUserIndustries().addAll(getUserIndustries(userInputDto, user));
+        user.getUserSkills().addAll(getUserSkills(userInputDto, user));
+        user.getUserWeekDays().addAll(getUserWeekDays(userInputDto, user));
         user.setPreferTow(referenceService.getTimeOfWorkingById(userInputDto.getPreferTowId()));
         user.setPreferWow(referenceService.getWaysOfWorkingById(userInputDto.getPreferWowId()));
         user.setPreferSido(referenceService.getSidoesById(userInputDto.getPreferSidoId()));
-        user.setUserIntroduces(getIntroduces(userInputDto, user));
+        user.getUserIntroduces().addAll(getIntroduces(userInputDto, user));
         user.setDetail(userInputDto.getDetail());
-        user.setUserPortfolioUrls(getUserPortfolioUrls(userInputDto, user));
+        user.getUserPortfolioUrls().addAll(getUserPortfolioUrls(userInputDto, user));
+
+        User savedUser = userRepository.save(user);
+        applicationEventPublisher.publishEvent(new UserProfileUpdatedEvent(savedUser.getId()));
+        return savedUser;
+    }
+
+    @Override
+    @Transactional
+    public ProfileImageUpload createProfileImageUpload(ProfileImageUploadInputDto profileImageUploadInputDto) {
+        ImageFormat format = ImageFormat.ofContentType(profileImageUploadInputDto.getContentType())
+                .orElseThrow(() -> new S3Exception(ApiStatus._S3_INVALID_FILE_TYPE));
+        Long contentLength = profileImageUploadInputDto.getContentLength();
+        if (contentLength == null || contentLength <= 0) {
+            throw new S3Exception(ApiStatus._S3_FILE_NOT_FOUND);
+        }
+        if (contentLength > ProfileImageProcessor.MAX_FILE_SIZE) {
+            throw new S3Exception(ApiStatus._S3_FILE_SIZE_EXCEEDED);
+        }
+
+        // 발급 시점에 처리 중 버전을 기록하므로 가장 마지막에 발급한 업로드만 확인할 수 있다.
+        UUID userId = getCurrentUserId();
+        String version = UUID.randomUUID().toString();
+        if (userRepository.markProfileImagePending(userId, version) == 0) {
+            throw new EmptyResultDataAccessException(1);
+        }
 
-        return userRepository.save(user);
+        Instant expiresAt = Instant.now().plus(uploadUrlTtl);
+        URL url = s3Service.generatePresignedPutUrl(ProfileImageSize.uploadKey(userId, version),
+                format.getContentType(), contentLength, Date.from(expiresAt));
+        Map<String, String> headers = Map.of(
+                HttpHeaders.CONTENT_TYPE, format.getContentType(),
+                HttpHeaders.CONTENT_LENGTH, String.valueOf(contentLength)
+        );
+        return new ProfileImageUpload(version, url, headers, expiresAt);
+    }
+
+    // 트랜잭션 없이 처리한다. S3 에서 원본 앞부분을 읽는 동안 DB 연결을 잡지 않고, 처리 실행기에 바로 제출해 자리가 없으면 503 을 돌려준다.
+    @Override
+    public void confirmProfileImageUpload(UUID version) {
+        UUID userId = getCurrentUserId();
+        ProfileImageState state = userRepository.findProfileImageStateById(userId)
+                .orElseThrow(() -> new EmptyResultDataAccessException(1));
+        if (!version.toString().equals(state.pendingVersion())) {
+            throw new S3Exception(ApiStatus._S3_UPLOAD_EXPIRED);
+        }
+
+        // 자리가 없으면 올린 원본은 그대로 두고 돌려보내므로 클라이언트가 같은 버전으로 다시 확인할 수 있다.
+        profileImageProcessor.ensureCapacity();
+        String key = ProfileImageSize.uploadKey(userId, version.toString());
+        ProfileImageUploadedEvent event;
+        try {
+            event = profileImageProcessor.acceptUploaded(userId, version.toString(), key);
+        } catch (S3Exception e) {
+            s3Service.deleteObject(key);
+            throw e;
+        }
+        profileImageProcessor.submit(event);
     }
 
     @Override
     @Transactional
     public void deleteCurrentUser() {
         User user = getCurrentUser();
-        s3Service.deleteFile(user.getProfileImageUrl());
         userRepository.delete(user);
+        currentUserMemo.setUser(null);
+        currentUserMemo.setVerifiedUserId(null);
+        applicationEventPublisher.publishEvent(new ProfileImageClearedEvent(user.getId()));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public User getUserByUserId(String userId) {
-        return userRepository.findByUserId(UUID.fromString(userId))
+        User user = userRepository.findByUserId(UUID.fromString(userId))
                 .orElseThrow(() -> new EmptyResultDataAccessException(1));
+        loadProfiles(List.of(user));
+        return user;
+    }
+
+    /**
+     * UserResponseDto 에 필요한 프로필 컬렉션을 초기화한다.
+     * default_batch_fetch_size 덕분에 사용자 수와 무관하게 컬렉션 종류별로 한 번씩(100명 단위) 조회된다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void loadProfiles(Collection<User> users) {
+        users.forEach(user -> {
+            Hibernate.initialize(user.getUserJobs());
+            Hibernate.initialize(user.getUserIndustries());
+            Hibernate.initialize(user.getUserSkills());
+            Hibernate.initialize(user.getUserWeekDays());
+            Hibernate.initialize(user.getUserIntroduces());
+            Hibernate.initialize(user.getUserPortfolioUrls());
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public UserSearchResponseDto searchUsers(UserSearchCondition condition) {
+        int size = Math.min(Math.max(condition.getSize(), 1), MAX_SEARCH_SIZE);
+
+        // 1. 필터/커서로 (created_at, id)만 조회 (size + 1개를 읽어 다음 페이지 여부 판단)
+        List<UserSearchCursor> keys = userRepository.findSearchKeys(condition, size + 1);
+        boolean hasNext = keys.size() > size;
+        List<UserSearchCursor> pageKeys = hasNext ? keys.subList(0, size) : keys;
+        List<UUID> pageIds = pageKeys.stream()
+                .map(UserSearchCursor::id)
+                .toList();
+
+        // 2. 페이지에 포함된 사용자만 로딩
+        List<User> page = getUserCards(pageIds);
+
+        return UserSearchResponseDto.builder()
+                .users(page.stream()
+                        .map(UserCardDto::from)
+                        .toList())
+                // 로딩 사이에 탈퇴해 빠진 사용자가 있어도 조회한 키로 이어간다.
+                .nextCursor(hasNext ? pageKeys.get(pageKeys.size() - 1).encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * UserCardDto 에 필요한 만큼만 읽어 ids 순서대로 반환한다. 없는 id 는 건너뛴다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<User> getUserCards(List<UUID> ids) {
+        Map<UUID, User> users = userRepository.findAllCardByIdIn(ids).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        List<User> cards = ids.stream()
+                .map(users::get)
+                .filter(Objects::nonNull)
+                .toList();
+        cards.forEach(user -> {
+            Hibernate.initialize(user.getUserJobs());
+            Hibernate.initialize(user.getUserSkills());
+        });
+        return cards;
     }
 
     private Set<UserJob> getUserJobs(UserInputDto userInputDto, User user) {
         Set<UserJob> userJobs = new HashSet<>();
+        Map<Long, Job> jobs = referenceService.getJobsByIds(userInputDto.getJobs().stream()
+                .map(UserJobDto::getJobId)
+                .toList());
         userInputDto.getJobs().forEach(userJobDto -> {
-            Job job = referenceService.getJobById(userJobDto.getJobId());
+            Job job = jobs.get(userJobDto.getJobId());
             UserJob userJob = UserJob.builder()
                     .job(job)
                     .user(user)
@@ -107,8 +302,7 @@ public class UserServiceImpl implements UserService {
 
     private Set<UserIndustry> getUserIndustries(UserInputDto userInputDto, User user) {
         Set<UserIndustry> userIndustries = new HashSet<>();
-        userInputDto.getIndustries().forEach(industryId -> {
-            Industry industry = referenceService.getIndustryById(industryId);
+        referenceService.getIndustriesByIds(userInputDto.getIndustries()).values().forEach(industry -> {
             UserIndustry userIndustry = UserIndustry.builder()
                     .industry(industry)
                     .user(user)
@@ -120,8 +314,7 @@ public class UserServiceImpl implements UserService {
 
     private Set<UserSkill> getUserSkills(UserInputDto userInputDto, User user) {
         Set<UserSkill> userSkills = new HashSet<>();
-        userInputDto.getSkills().forEach(skillId -> {
-            Skill skill = referenceService.getSkillById(skillId);
+        referenceService.getSkillsByIds(userInputDto.getSkills()).values().forEach(skill -> {
             UserSkill userSkill = UserSkill.builder()
                     .skill(skill)
                     .user(user)
@@ -133,8 +326,7 @@ public class UserServiceImpl implements UserService {
 
     private Set<UserWeekDays> getUserWeekDays(UserInputDto userInputDto, User user) {
         Set<UserWeekDays> userWeekDays = new HashSet<>();
-        userInputDto.getPreferWeekDays().forEach(userWeekDayId -> {
-            WeekDays weekDays = referenceService.getWeekDaysById(userWeekDayId);
+        referenceService.getWeekDaysByIds(userInputDto.getPreferWeekDays()).values().forEach(weekDays -> {
             UserWeekDays userWeekDay = UserWeekDays.builder()
                     .user(user)
                     .weekDays(weekDays)
@@ -146,8 +338,11 @@ public class UserServiceImpl implements UserService {
 
     private Set<UserPortfolioUrl> getUserPortfolioUrls(UserInputDto userInputDto, User user) {
         Set<UserPortfolioUrl> userPortfolioUrls = new HashSet<>();
+        Map<Long, PortfolioUrl> portfolioUrls = referenceService.getPortfolioUrlsByIds(userInputDto.getPortfolioUrls().stream()
+                .map(UserPortfolioUrlDto::getPortfolioUrlId)
+                .toList());
         userInputDto.getPortfolioUrls().forEach(portfolioUrlDto -> {
-            PortfolioUrl portfolioUrl = referenceService.getPortfolioUrlById(portfolioUrlDto.getPortfolioUrlId());
+            PortfolioUrl portfolioUrl = portfolioUrls.get(portfolioUrlDto.getPortfolioUrlId());
             UserPortfolioUrl userPortfolioUrl = UserPortfolioUrl.builder()
                     .portfolioUrl(portfolioUrl)
                     .user(user)
@@ -160,8 +355,7 @@ public class UserServiceImpl implements UserService {
 
     private Set<UserIntroduce> getIntroduces(UserInputDto userInputDto, User user) {
         Set<UserIntroduce> introduces = new HashSet<>();
-        userInputDto.getIntroduces().forEach(introduceId -> {
-            SubIntroduce introduce = referenceService.getSubIntroduceById(introduceId);
+        referenceService.getSubIntroducesByIds(userInputDto.getIntroduces()).values().forEach(introduce -> {
             UserIntroduce userIntroduce = UserIntroduce.builder()
                     .user(user)
                     .subIntroduce(introduce)
@@ -171,19 +365,20 @@ public class UserServiceImpl implements UserService {
         return introduces;
     }
 
-    private String getProfileImageUrl(MultipartFile profileImage, User user) {
-        String checkUrl = s3Service.getUrlFromFileName("user/profile_img/" + user.getId());
-        if (s3Service.isFileExist(checkUrl)) {
-            s3Service.deleteFile(checkUrl);
-        }
-
+    // 원본은 형식만 확인하고 처리 중 버전으로 기록해 둔다. 크기별 사본 생성과 주소 교체는 커밋 후 ProfileImageProcessor 가 한다.
+    private void updateProfileImage(MultipartFile profileImage, User user) {
         if (profileImage != null && !profileImage.isEmpty()) {
-            if (user.getProfileImageUrl() != null) {
-                s3Service.deleteFile(user.getProfileImageUrl());
-            }
-
-            return s3Service.uploadFile(profileImage, "user/profile_img/" + user.getId());
+            profileImageProcessor.ensureCapacity();
+            String version = UUID.randomUUID().toString();
+            ProfileImageUploadedEvent event = profileImageProcessor.accept(user.getId(), version, profileImage);
+            userRepository.markProfileImagePending(user.getId(), version);
+            applicationEventPublisher.publishEvent(event);
+            return;
         }
-        return null;
+
+        // 이미지 없이 수정하면 기존처럼 프로필 이미지를 지운다.
+        userRepository.clearProfileImage(user.getId());
+        user.setProfileImageUrl(null);
+        applicationEventPublisher.publishEvent(new ProfileImageClearedEvent(user.getId()));
     }
 }
@@ -1,8 +1,17 @@
 package com.waggle.global.aws.service;
 
+import com.amazonaws.HttpMethod;
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.Headers;
 import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
 import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
 import com.waggle.global.exception.S3Exception;
 import com.waggle.global.response.ApiStatus;
 import lombok.RequiredArgsConstructor;
@@ -11,10 +20,14 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.Date;
+import java.util.List;
 import java.util.Set;
+import java.util.function.Predicate;
 
 @Slf4j
 @Service
@@ -23,6 +36,7 @@ public class S3Service {
 
     private final AmazonS3 amazonS3;
     private static final long MAX_FILE_SIZE = 5 * 1024 * 1024; // 5MB
+    private static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
     private static final Set<String> ALLOWED_FILE_TYPES = Set.of(
             "image/jpeg", "image/png", "image/gif"
     );
@@ -45,6 +59,106 @@ public class S3Service {
         }
     }
 
+    /**
+     * 서버에서 만든 바이트 배열을 올린다. 경로가 버전마다 달라 내용이 바뀌지 않으므로 오래 캐시해도 된다.
+     */
+    public String uploadBytes(byte[] bytes, String fileName, String contentType) {
+        try {
+            ObjectMetadata metadata = new ObjectMetadata();
+            metadata.setContentType(contentType);
+            metadata.setContentLength(bytes.length);
+            metadata.setCacheControl(IMMUTABLE_CACHE_CONTROL);
+
+            amazonS3.putObject(bucket, fileName, new ByteArrayInputStream(bytes), metadata);
+            return amazonS3.getUrl(bucket, fileName).toString();
+        } catch (AmazonS3Exception e) {
+            throw new S3Exception(ApiStatus._S3_UPLOAD_FAILED, e);
+        }
+    }
+
+    /**
+     * prefix 아래 객체 중 keep 이 false 인 것을 1000개 단위로 한 번에 지운다.
+     *
+     * @return 지운 객체 수
+     */
+    public int deleteByPrefix(String prefix, Predicate<String> keep) {
+        int deleted = 0;
+        ListObjectsV2Request request = new ListObjectsV2Request().withBucketName(bucket).withPrefix(prefix);
+        ListObjectsV2Result result;
+        do {
+            result = amazonS3.listObjectsV2(request);
+            List<DeleteObjectsRequest.KeyVersion> keys = result.getObjectSummaries().stream()
+                    .map(S3ObjectSummary::getKey)
+                    .filter(key -> !keep.test(key))
+                    .map(DeleteObjectsRequest.KeyVersion::new)
+                    .toList();
+            if (!keys.isEmpty()) {
+                amazonS3.deleteObjects(new DeleteObjectsRequest(bucket).withKeys(keys).withQuiet(true));
+                deleted += keys.size();
+            }
+            request.setContinuationToken(result.getNextContinuationToken());
+        } while (result.isTruncated());
+        return deleted;
+    }
+
+    /**
+     * 클라이언트가 서버를 거치지 않고 key 에 직접 올릴 수 있는 PUT URL 을 만든다.
+     * Content-Type 과 Content-Length 를 서명에 넣으므로 다른 형식이나 크기로는 올릴 수 없다.
+     */
+    public URL generatePresignedPutUrl(String key, String contentType, long contentLength, Date expiration) {
+        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket, key, HttpMethod.PUT)
+                .withContentType(contentType)
+                .withExpiration(expiration);
+        request.putCustomRequestHeader(Headers.CONTENT_LENGTH, String.valueOf(contentLength));
+        return amazonS3.generatePresignedUrl(request);
+    }
+
+    /**
+     * 직접 올라온 객체를 읽는다. maxSize 보다 크면 내려받지 않고 지운다.
+     */
+    public byte[] readObject(String key, long maxSize) {
+        return read(key, maxSize, new GetObjectRequest(bucket, key));
+    }
+
+    /**
+     * 직접 올라온 객체의 앞 length 바이트만 읽는다. 형식 판별용이며 크기 확인은 readObject 와 같다.
+     */
+    public byte[] readObjectPrefix(String key, long maxSize, int length) {
+        return read(key, maxSize, new GetObjectRequest(bucket, key).withRange(0, length - 1));
+    }
+
+    private byte[] read(String key, long maxSize, GetObjectRequest request) {
+        try {
+            ObjectMetadata metadata = amazonS3.getObjectMetadata(bucket, key);
+            if (metadata.getContentLength() > maxSize) {
+                amazonS3.deleteObject(bucket, key);
+                throw new S3Exception(ApiStatus._S3_FILE_SIZE_EXCEEDED);
+            }
+            // 빈 객체에 범위 요청을 보내면 416 이 오므로 먼저 걸러 낸다.
+            if (metadata.getContentLength() == 0) {
+                throw new S3Exception(ApiStatus._S3_FILE_NOT_FOUND);
+            }
+            try (S3Object object = amazonS3.getObject(request)) {
+                return object.getObjectContent().readAllBytes();
+            }
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == 404) {
+                throw new S3Exception(ApiStatus._S3_FILE_NOT_FOUND, e);
+            }
+            throw new S3Exception(ApiStatus._S3_UPLOAD_FAILED, e);
+        } catch (IOException e) {
+            throw new S3Exception(ApiStatus._S3_UPLOAD_FAILED, e);
+        }
+    }
+
+    public void deleteObject(String key) {
+        try {
+            amazonS3.deleteObject(bucket, key);
+        } catch (AmazonS3Exception e) {
+            log.info("deleteObject: {}", key, e);
+        }
+    }
+
     public void deleteFile(String fileUrl) {
         try {
             String fileName = extractfilenamefromurl(fileUrl);
@@ -7,7 +7,9 @@ import com.waggle.global.exception.S3Exception;
 import com.waggle.global.response.ApiStatus;
 import com.waggle.global.response.BaseResponse;
 import com.waggle.global.response.ErrorResponse;
+import jakarta.persistence.OptimisticLockException;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -44,4 +46,10 @@ public class GlobalExceptionHandler {
     public ResponseEntity<BaseResponse<Object>> handleIllegalArgumentException(IllegalArgumentException ex) {
         return ErrorResponse.of(ApiStatus._BAD_REQUEST, ex.getMessage());
     }
+
+    // 재시도 후에도 동시 수정 충돌이 남은 경우
+    @ExceptionHandler({OptimisticLockingFailureException.class, OptimisticLockException.class})
+    public ResponseEntity<BaseResponse<String>> handleOptimisticLockException(RuntimeException ex) {
+        return ErrorResponse.of(ApiStatus._CONFLICT);
+    }
 }
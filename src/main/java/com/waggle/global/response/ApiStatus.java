@@ -38,12 +38,16 @@ public enum ApiStatus {
     _S3_FILE_NOT_FOUND(HttpStatus.BAD_REQUEST, 404, "파일을 찾을 수 없습니다."),
     _S3_INVALID_FILE_TYPE(HttpStatus.BAD_REQUEST, 400, "지원하지 않는 파일 형식입니다."),
     _S3_FILE_SIZE_EXCEEDED(HttpStatus.BAD_REQUEST, 400, "파일 크기가 제한을 초과했습니다."),
+    _S3_UPLOAD_EXPIRED(HttpStatus.CONFLICT, 409, "만료되었거나 이미 처리된 업로드입니다."),
+    _PROFILE_IMAGE_BUSY(HttpStatus.SERVICE_UNAVAILABLE, 503, "이미지 처리 요청이 많습니다. 잠시 후 다시 시도해주세요."),
 
     // 프로젝트 관련 에러 (4xx)
     _ALREADY_APPLIED_PROJECT(HttpStatus.BAD_REQUEST, 400, "이미 지원한 프로젝트입니다."),
     _ALREADY_JOINED_PROJECT(HttpStatus.BAD_REQUEST, 400, "이미 참여한 프로젝트입니다."),
     _NOT_JOINED_PROJECT(HttpStatus.BAD_REQUEST, 400, "참여하지 않은 프로젝트입니다."),
-    _NOT_LEADER(HttpStatus.BAD_REQUEST, 400, "프로젝트 리더만 가능한 요청입니다.");
+    _NOT_LEADER(HttpStatus.BAD_REQUEST, 400, "프로젝트 리더만 가능한 요청입니다."),
+    _CANNOT_REJECT_LEADER(HttpStatus.BAD_REQUEST, 400, "프로젝트 리더는 내보낼 수 없습니다. 리더를 위임한 뒤 다시 시도해주세요."),
+    _LEADER_CANNOT_LEAVE(HttpStatus.BAD_REQUEST, 400, "프로젝트 리더는 나갈 수 없습니다. 리더를 위임한 뒤 다시 시도해주세요.");
 
     private final HttpStatus httpStatus;
     private final int code;
@@ -0,0 +1,59 @@
+package com.waggle.global.response;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * ETag 를 붙인 성공 응답과, If-None-Match 가 일치할 때의 304 응답을 만든다.
+ * 컨트롤러에서 본문을 만들기 전에 isNotModified 로 먼저 확인한다.
+ */
+public final class ConditionalResponse {
+
+    private ConditionalResponse() {
+    }
+
+    /**
+     * If-None-Match 헤더에 eTag 가 들어 있는지 확인한다. (약한 비교: W/ 접두사는 무시)
+     */
+    public static boolean isNotModified(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank() || eTag == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (unquote(tag).equals(unquote(eTag))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static <T> ResponseEntity<BaseResponse<T>> of(ApiStatus code, T data, String eTag, CacheControl cacheControl) {
+        BaseResponse<T> response = new SuccessResponse<>(code.getCode(), code.getMessage(), data);
+        return ResponseEntity.status(code.getHttpStatus())
+                .eTag(eTag)
+                .cacheControl(cacheControl)
+                .body(response);
+    }
+
+    // 304 에도 200 과 같은 ETag, Cache-Control 을 보낸다.
+    public static <T> ResponseEntity<BaseResponse<T>> notModified(String eTag, CacheControl cacheControl) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(eTag)
+                .cacheControl(cacheControl)
+                .build();
+    }
+
+    private static String unquote(String tag) {
+        return tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")
+                ? tag.substring(1, tag.length() - 1)
+                : tag;
+    }
+}
@@ -0,0 +1,10 @@
+package com.waggle.global.response.swagger;
+
+import com.waggle.domain.user.dto.ProfileImageUploadResponseDto;
+import com.waggle.global.response.SuccessResponse;
+
+public class ProfileImageUploadSuccessResponse extends SuccessResponse<ProfileImageUploadResponseDto> {
+    public ProfileImageUploadSuccessResponse(int code, String message, ProfileImageUploadResponseDto payload) {
+        super(code, message, payload);
+    }
+}
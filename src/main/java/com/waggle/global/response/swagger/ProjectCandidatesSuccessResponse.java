@@ -0,0 +1,12 @@
+package com.waggle.global.response.swagger;
+
+import com.waggle.domain.project.dto.ProjectCandidateDto;
+import com.waggle.global.response.SuccessResponse;
+
+import java.util.List;
+
+public class ProjectCandidatesSuccessResponse extends SuccessResponse<List<ProjectCandidateDto>> {
+    public ProjectCandidatesSuccessResponse(int code, String message, List<ProjectCandidateDto> payload) {
+        super(code, message, payload);
+    }
+}
@@ -0,0 +1,10 @@
+package com.waggle.global.response.swagger;
+
+import com.waggle.domain.project.dto.ProjectFacetResponseDto;
+import com.waggle.global.response.SuccessResponse;
+
+public class ProjectFacetSuccessResponse extends SuccessResponse<ProjectFacetResponseDto> {
+    public ProjectFacetSuccessResponse(int code, String message, ProjectFacetResponseDto payload) {
+        super(code, message, payload);
+    }
+}
@@ -0,0 +1,10 @@
+package com.waggle.global.response.swagger;
+
+import com.waggle.domain.project.dto.ProjectFeedResponseDto;
+import com.waggle.global.response.SuccessResponse;
+
+public class ProjectFeedSuccessResponse extends SuccessResponse<ProjectFeedResponseDto> {
+    public ProjectFeedSuccessResponse(int code, String message, ProjectFeedResponseDto payload) {
+        super(code, message, payload);
+    }
+}
@@ -0,0 +1,10 @@
+package com.waggle.global.response.swagger;
+
+import com.waggle.domain.project.dto.ProjectRecommendationResponseDto;
+import com.waggle.global.response.SuccessResponse;
+
+public class ProjectRecommendationSuccessResponse extends SuccessResponse<ProjectRecommendationResponseDto> {
+    public ProjectRecommendationSuccessResponse(int code, String message, ProjectRecommendationResponseDto payload) {
+        super(code, message, payload);
+    }
+}
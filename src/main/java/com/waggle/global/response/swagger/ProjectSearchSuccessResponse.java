@@ -0,0 +1,10 @@
+package com.waggle.global.response.swagger;
+
+import com.waggle.domain.project.dto.ProjectSearchResponseDto;
+import com.waggle.global.response.SuccessResponse;
+
+public class ProjectSearchSuccessResponse extends SuccessResponse<ProjectSearchResponseDto> {
+    public ProjectSearchSuccessResponse(int code, String message, ProjectSearchResponseDto payload) {
+        super(code, message, payload);
+    }
+}
@@ -0,0 +1,10 @@
+package com.waggle.global.response.swagger;
+
+import com.waggle.domain.reference.dto.ReferenceBundleResponseDto;
+import com.waggle.global.response.SuccessResponse;
+
+public class ReferenceBundleSuccessResponse extends SuccessResponse<ReferenceBundleResponseDto> {
+    public ReferenceBundleSuccessResponse(int code, String message, ReferenceBundleResponseDto payload) {
+        super(code, message, payload);
+    }
+}
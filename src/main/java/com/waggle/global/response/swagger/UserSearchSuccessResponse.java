@@ -0,0 +1,10 @@
+package com.waggle.global.response.swagger;
+
+import com.waggle.domain.user.dto.UserSearchResponseDto;
+import com.waggle.global.response.SuccessResponse;
+
+public class UserSearchSuccessResponse extends SuccessResponse<UserSearchResponseDto> {
+    public UserSearchSuccessResponse(int code, String message, UserSearchResponseDto payload) {
+        super(code, message, payload);
+    }
+}
@@ -0,0 +1,67 @@
+package com.waggle.global.retry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.OptimisticLockException;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.retry.support.RetryTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * {@link RetryOnConflict} 메서드를 낙관적 락 충돌 시 지수 백오프(지터 포함)로 재시도한다.
+ * 트랜잭션 프록시보다 먼저 실행되어야 매 시도가 새 트랜잭션에서 최신 버전을 다시 읽는다.
+ * <p>
+ * 메트릭 (method 태그)
+ * - project.mutation.attempts: 시도 횟수 (재시도 포함)
+ * - project.mutation.conflicts: 충돌로 재시도한 횟수
+ * - project.mutation.conflicts.exhausted: 재시도를 모두 써서 실패한 횟수
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class ConflictRetryAspect {
+
+    private final MeterRegistry meterRegistry;
+    private final RetryTemplate retryTemplate;
+
+    public ConflictRetryAspect(MeterRegistry meterRegistry,
+                               @Value("${project.mutation-retry.max-attempts}") int maxAttempts,
+                               @Value("${project.mutation-retry.initial-backoff}") Duration initialBackoff,
+                               @Value("${project.mutation-retry.max-backoff}") Duration maxBackoff) {
+        this.meterRegistry = meterRegistry;
+        this.retryTemplate = RetryTemplate.builder()
+                .maxAttempts(maxAttempts)
+                .exponentialBackoff(initialBackoff, 2.0, maxBackoff, true)
+                .retryOn(List.of(OptimisticLockingFailureException.class, OptimisticLockException.class))
+                .traversingCauses()
+                .build();
+    }
+
+    @Around("@annotation(com.waggle.global.retry.RetryOnConflict)")
+    public Object retry(ProceedingJoinPoint joinPoint) throws Throwable {
+        String method = joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName();
+        try {
+            return retryTemplate.<Object, Throwable>execute(context -> {
+                meterRegistry.counter("project.mutation.attempts", "method", method).increment();
+                if (context.getRetryCount() > 0) {
+                    meterRegistry.counter("project.mutation.conflicts", "method", method).increment();
+                    log.debug("낙관적 락 충돌 재시도: {} ({}회차)", method, context.getRetryCount() + 1);
+                }
+                return joinPoint.proceed();
+            });
+        } catch (OptimisticLockingFailureException | OptimisticLockException e) {
+            meterRegistry.counter("project.mutation.conflicts.exhausted", "method", method).increment();
+            throw e;
+        }
+    }
+}
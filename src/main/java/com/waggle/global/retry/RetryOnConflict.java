@@ -0,0 +1,15 @@
+package com.waggle.global.retry;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 낙관적 락 충돌 시 트랜잭션째로 다시 실행한다. (@Transactional 보다 바깥에서 감싼다)
+ * 재시도 횟수/간격은 project.mutation-retry.* 설정을 따른다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnConflict {
+}
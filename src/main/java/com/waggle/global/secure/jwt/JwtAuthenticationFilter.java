@@ -0,0 +1,42 @@
+package com.waggle.global.secure.jwt;
+
+import com.waggle.global.exception.JwtTokenException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Authorization 헤더의 액세스 토큰을 요청당 한 번만 검증해 JwtPrincipal 을 SecurityContext 에 넣는다.
+ * 인증이 필요한지는 각 API 가 정하므로 여기서는 요청을 막지 않고, 토큰이 잘못된 경우 그 사유만 남겨둔다.
+ */
+@RequiredArgsConstructor
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    public static final String ERROR_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".ERROR";
+
+    private final JwtUtil jwtUtil;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String authorizationHeader = request.getHeader("Authorization");
+        if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
+            try {
+                JwtPrincipal principal = jwtUtil.getPrincipalFromToken(jwtUtil.getTokenFromHeader(authorizationHeader));
+                SecurityContextHolder.getContext().setAuthentication(
+                        new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+            } catch (JwtTokenException e) {
+                request.setAttribute(ERROR_ATTRIBUTE, e.getStatus());
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,11 @@
+package com.waggle.global.secure.jwt;
+
+import java.util.UUID;
+
+/**
+ * 액세스 토큰에서 꺼낸 인증 정보. 요청마다 DB 에서 사용자를 읽지 않고 SecurityContext 에 이것만 둔다.
+ *
+ * @param provider OAuth 제공자. provider 클레임이 없는 이전 토큰이면 null
+ */
+public record JwtPrincipal(UUID userId, String provider) {
+}
@@ -1,6 +1,7 @@
 package com.waggle.global.secure.jwt;
 
 import com.waggle.global.response.ApiStatus;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
@@ -27,11 +28,12 @@ public class JwtUtil {
     }
 
     // 액세스 토큰을 발급하는 메서드
-    public String generateAccessToken(UUID userId, long expirationMillis) {
+    public String generateAccessToken(UUID userId, String provider, long expirationMillis) {
         log.info("액세스 토큰이 발행되었습니다.");
 
         return Jwts.builder()
                 .claim("userId", userId.toString()) // 클레임에 userId 추가
+                .claim("provider", provider) // null 이면 생략된다
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + expirationMillis))
                 .signWith(this.getSigningKey())
@@ -39,11 +41,12 @@ public class JwtUtil {
     }
 
     // 리프레쉬 토큰을 발급하는 메서드
-    public String generateRefreshToken(UUID userId, long expirationMillis) {
+    public String generateRefreshToken(UUID userId, String provider, long expirationMillis) {
         log.info("리프레쉬 토큰이 발행되었습니다.");
 
         return Jwts.builder()
                 .claim("userId", userId.toString()) // 클레임에 userId 추가
+                .claim("provider", provider) // 재발급하는 액세스 토큰에 그대로 옮긴다
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + expirationMillis))
                 .signWith(this.getSigningKey())
@@ -76,6 +79,26 @@ public class JwtUtil {
         }
     }
 
+    // 토큰에서 인증 정보(유저 id, provider)를 반환하는 메서드
+    public JwtPrincipal getPrincipalFromToken(String token) {
+        try {
+            Claims claims = Jwts.parser()
+                    .verifyWith(this.getSigningKey())
+                    .build()
+                    .parseSignedClaims(token)
+                    .getPayload();
+            String userId = claims.get("userId", String.class);
+            if (userId == null) {
+                throw new JwtTokenException(ApiStatus._INVALID_TOKEN);
+            }
+            return new JwtPrincipal(UUID.fromString(userId), claims.get("provider", String.class));
+        } catch (JwtException | IllegalArgumentException e) {
+            // 토큰이 유효하지 않거나 만료된 경우
+            log.warn("유효하지 않은 토큰입니다.");
+            throw new JwtTokenException(ApiStatus._INVALID_TOKEN);
+        }
+    }
+
     // Jwt 토큰의 유효기간을 확인하는 메서드
     public boolean isTokenExpired(String token) {
         try {
@@ -105,7 +105,7 @@ public class OAuth2LoginSuccessHandler extends SimpleUrlAuthenticationSuccessHan
         log.info("PROVIDER_ID : {}", providerId);
 
         // 리프레쉬 토큰 발급 후 저장
-        String refreshToken = jwtUtil.generateRefreshToken(user.getId(), REFRESH_TOKEN_EXPIRATION_TIME);
+        String refreshToken = jwtUtil.generateRefreshToken(user.getId(), user.getProvider(), REFRESH_TOKEN_EXPIRATION_TIME);
         redisTemplate.opsForValue().set(
                 "REFRESH_TOKEN:" + user.getId(),
                 refreshToken,
@@ -0,0 +1,37 @@
+package com.waggle.domain.project.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProjectFeedCursorTest {
+
+    @Test
+    void decodeRestoresEncodedCursor() {
+        ProjectFeedCursor cursor = new ProjectFeedCursor(LocalDateTime.of(2024, 3, 1, 12, 30, 15, 123_000_000), UUID.randomUUID());
+
+        assertThat(ProjectFeedCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void blankCursorMeansFirstPage() {
+        assertThat(ProjectFeedCursor.decode(null)).isNull();
+        assertThat(ProjectFeedCursor.decode(" ")).isNull();
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        String noDelimiter = Base64.getUrlEncoder().encodeToString("2024-03-01T12:30".getBytes(StandardCharsets.UTF_8));
+        String badId = Base64.getUrlEncoder().encodeToString("2024-03-01T12:30|not-a-uuid".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> ProjectFeedCursor.decode("%%%")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ProjectFeedCursor.decode(noDelimiter)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ProjectFeedCursor.decode(badId)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
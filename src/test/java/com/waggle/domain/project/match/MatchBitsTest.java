@@ -0,0 +1,53 @@
+package com.waggle.domain.project.match;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MatchBitsTest {
+
+    @Test
+    void containsOnlyGivenIds() {
+        long[] bits = MatchBits.of(List.of(0L, 5L, 63L, 64L, 200L));
+
+        assertThat(bits).hasSize(4);
+        assertThat(MatchBits.contains(bits, 0)).isTrue();
+        assertThat(MatchBits.contains(bits, 63)).isTrue();
+        assertThat(MatchBits.contains(bits, 64)).isTrue();
+        assertThat(MatchBits.contains(bits, 200)).isTrue();
+        assertThat(MatchBits.contains(bits, 6)).isFalse();
+        assertThat(MatchBits.contains(bits, 128)).isFalse();
+        assertThat(MatchBits.contains(bits, 1_000)).isFalse();
+        assertThat(MatchBits.contains(bits, -1)).isFalse();
+        assertThat(MatchBits.cardinality(bits)).isEqualTo(5);
+    }
+
+    @Test
+    void intersectionCountAcrossWordsOfDifferentLength() {
+        long[] a = MatchBits.of(List.of(1L, 2L, 70L, 130L));
+        long[] b = MatchBits.of(List.of(2L, 70L, 71L));
+
+        assertThat(MatchBits.intersectionCount(a, b)).isEqualTo(2);
+        assertThat(MatchBits.intersectionCount(b, a)).isEqualTo(2);
+    }
+
+    @Test
+    void emptyIdsGiveEmptyBits() {
+        long[] bits = MatchBits.of(List.of());
+
+        assertThat(bits).isEmpty();
+        assertThat(MatchBits.cardinality(bits)).isZero();
+        assertThat(MatchBits.intersectionCount(bits, MatchBits.of(List.of(3L)))).isZero();
+    }
+
+    @Test
+    void idsOutOfRangeAreRejected() {
+        assertThatThrownBy(() -> MatchBits.of(List.of(-1L))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> MatchBits.of(List.of(1L << 16))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> MatchBits.of(Arrays.asList(1L, null))).isInstanceOf(IllegalArgumentException.class);
+    }
+}
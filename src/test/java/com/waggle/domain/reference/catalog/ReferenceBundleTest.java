@@ -0,0 +1,46 @@
+package com.waggle.domain.reference.catalog;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReferenceBundleTest {
+
+    @Test
+    void acceptsGzip() {
+        assertThat(ReferenceBundle.acceptsGzip("gzip")).isTrue();
+        assertThat(ReferenceBundle.acceptsGzip("br, gzip;q=0.5")).isTrue();
+        assertThat(ReferenceBundle.acceptsGzip("GZIP;Q=1")).isTrue();
+    }
+
+    @Test
+    void rejectsGzipWithZeroQuality() {
+        assertThat(ReferenceBundle.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(ReferenceBundle.acceptsGzip("gzip;q=0.0, br")).isFalse();
+    }
+
+    @Test
+    void wildcardAcceptsGzipWhenGzipIsNotListed() {
+        assertThat(ReferenceBundle.acceptsGzip("*")).isTrue();
+        assertThat(ReferenceBundle.acceptsGzip("br, *;q=0.1")).isTrue();
+        assertThat(ReferenceBundle.acceptsGzip("*;q=0")).isFalse();
+    }
+
+    @Test
+    void explicitGzipEntryTakesPrecedenceOverWildcard() {
+        assertThat(ReferenceBundle.acceptsGzip("*;q=0, gzip")).isTrue();
+        assertThat(ReferenceBundle.acceptsGzip("gzip;q=0, *")).isFalse();
+    }
+
+    @Test
+    void unreadableQualityIsTreatedAsRejected() {
+        assertThat(ReferenceBundle.acceptsGzip("gzip;q=abc")).isFalse();
+    }
+
+    @Test
+    void missingOrUnrelatedHeaderDoesNotAcceptGzip() {
+        assertThat(ReferenceBundle.acceptsGzip(null)).isFalse();
+        assertThat(ReferenceBundle.acceptsGzip("")).isFalse();
+        assertThat(ReferenceBundle.acceptsGzip("br, deflate")).isFalse();
+    }
+}
@@ -0,0 +1,37 @@
+package com.waggle.domain.user.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UserSearchCursorTest {
+
+    @Test
+    void decodeRestoresEncodedCursor() {
+        UserSearchCursor cursor = new UserSearchCursor(LocalDateTime.of(2024, 3, 1, 12, 30, 15, 123_000_000), UUID.randomUUID());
+
+        assertThat(UserSearchCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void blankCursorMeansFirstPage() {
+        assertThat(UserSearchCursor.decode(null)).isNull();
+        assertThat(UserSearchCursor.decode(" ")).isNull();
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        String noDelimiter = Base64.getUrlEncoder().encodeToString("2024-03-01T12:30".getBytes(StandardCharsets.UTF_8));
+        String badId = Base64.getUrlEncoder().encodeToString("2024-03-01T12:30|not-a-uuid".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> UserSearchCursor.decode("%%%")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> UserSearchCursor.decode(noDelimiter)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> UserSearchCursor.decode(badId)).isInstanceOf(IllegalArgumentException.class);
+    }
+}